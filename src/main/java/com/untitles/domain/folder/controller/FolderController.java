@@ -1,18 +1,26 @@
 package com.untitles.domain.folder.controller;
 
+import com.untitles.domain.folder.dto.request.BulkDeleteRequestDTO;
+import com.untitles.domain.folder.dto.request.BulkMoveRequestDTO;
 import com.untitles.domain.folder.dto.request.FolderCreateRequestDTO;
 import com.untitles.domain.folder.dto.request.FolderUpdateRequestDTO;
 import com.untitles.domain.folder.dto.request.MoveFolderRequestDTO;
+import com.untitles.domain.folder.dto.request.ReorderRequestDTO;
+import com.untitles.domain.folder.dto.response.FolderChildrenResponseDTO;
 import com.untitles.domain.folder.dto.response.FolderResponseDTO;
+import com.untitles.domain.folder.dto.response.TreeChangesResponseDTO;
 import com.untitles.domain.folder.dto.response.WorkspaceTreeResponseDTO;
 import com.untitles.domain.folder.service.FolderService;
 import com.untitles.global.security.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,12 +31,63 @@ public class FolderController {
 
     /**
      * 워크스페이스 트리 조회 (폴더 + 게시글)
+     * - 트리 revision 이 같으면 304 (If-None-Match)
      */
     @GetMapping
     public ResponseEntity<WorkspaceTreeResponseDTO> getRootFolders(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            WebRequest webRequest) {
+        String eTag = folderService.getTreeETag(userDetails.getUserId(), workspaceId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(folderService.getRootFolders(userDetails.getUserId(), workspaceId));
+    }
+
+    /**
+     * 트리 변경분 조회 (증분 동기화)
+     * - since: 클라이언트가 마지막으로 받은 트리 revision
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TreeChangesResponseDTO> getTreeChanges(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @RequestParam long since) {
+        return ResponseEntity.ok(folderService.getTreeChanges(userDetails.getUserId(), workspaceId, since));
+    }
+
+    /**
+     * 트리 변경 실시간 구독 (SSE)
+     * - 재연결 시 브라우저가 보내는 Last-Event-ID(revision) 이후 변경부터 이어서 받음
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTreeChanges(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return folderService.subscribeTreeChanges(userDetails.getUserId(), workspaceId, lastEventId);
+    }
+
+    /**
+     * 루트 한 단계 조회 (루트 폴더 + 루트 게시글, 하위 내용은 개수만)
+     */
+    @GetMapping("/children")
+    public ResponseEntity<FolderChildrenResponseDTO> getRootChildren(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long workspaceId) {
-        return ResponseEntity.ok(folderService.getRootFolders(userDetails.getUserId(), workspaceId));
+        return ResponseEntity.ok(folderService.getChildren(userDetails.getUserId(), workspaceId, null));
+    }
+
+    /**
+     * 폴더 한 단계 조회 (펼친 폴더의 하위 폴더 + 게시글)
+     */
+    @GetMapping("/{folderId}/children")
+    public ResponseEntity<FolderChildrenResponseDTO> getChildren(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @PathVariable Long folderId) {
+        return ResponseEntity.ok(folderService.getChildren(userDetails.getUserId(), workspaceId, folderId));
     }
 
     /**
@@ -92,4 +151,40 @@ public class FolderController {
         return ResponseEntity.ok(folderService.moveFolder(
                 userDetails.getUserId(), workspaceId, folderId, request.getParentId()));
     }
+
+    /**
+     * 폴더 순서 변경 (같은 부모 안에서)
+     */
+    @PutMapping("/{folderId}/reorder")
+    public ResponseEntity<FolderResponseDTO> reorderFolder(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @PathVariable Long folderId,
+            @RequestBody ReorderRequestDTO request) {
+        return ResponseEntity.ok(folderService.reorderFolder(userDetails.getUserId(), workspaceId, folderId, request));
+    }
+
+    /**
+     * 폴더/게시글 일괄 이동
+     */
+    @PutMapping("/bulk/move")
+    public ResponseEntity<Void> moveBulk(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @RequestBody @Valid BulkMoveRequestDTO request) {
+        folderService.moveBulk(userDetails.getUserId(), workspaceId, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 폴더/게시글 일괄 삭제
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<Void> deleteBulk(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @RequestBody @Valid BulkDeleteRequestDTO request) {
+        folderService.deleteBulk(userDetails.getUserId(), workspaceId, request);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
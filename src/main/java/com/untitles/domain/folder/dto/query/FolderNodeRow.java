@@ -0,0 +1,17 @@
+package com.untitles.domain.folder.dto.query;
+
+import java.time.LocalDateTime;
+
+/*
+ * 한 단계 트리 조회용 폴더 행 (하위 폴더/게시글 수 포함)
+ * */
+public record FolderNodeRow(
+        Long folderId,
+        String name,
+        String sortKey,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long childFolderCount,
+        Long postCount
+) {
+}
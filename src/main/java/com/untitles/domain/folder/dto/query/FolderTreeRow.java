@@ -0,0 +1,16 @@
+package com.untitles.domain.folder.dto.query;
+
+import java.time.LocalDateTime;
+
+/*
+ * 트리 조립용 폴더 행 (엔티티 대신 필요한 컬럼만 조회)
+ * */
+public record FolderTreeRow(
+        Long folderId,
+        Long parentId,
+        String name,
+        String sortKey,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.untitles.domain.folder.dto.query;
+
+import java.time.LocalDateTime;
+
+/*
+ * 공개 트리 조립용 폴더 행 (전체공개 판단에 필요한 경로/publishAll 포함)
+ * */
+public record FolderVisibilityRow(
+        Long folderId,
+        Long parentId,
+        String name,
+        String sortKey,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String path,
+        Boolean publishAll
+) {
+}
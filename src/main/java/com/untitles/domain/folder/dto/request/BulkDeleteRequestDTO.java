@@ -0,0 +1,20 @@
+package com.untitles.domain.folder.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteRequestDTO {
+
+    @Size(max = 100, message = "폴더는 한 번에 100개까지 삭제할 수 있습니다.")
+    private List<Long> folderIds;
+
+    @Size(max = 100, message = "게시글은 한 번에 100개까지 삭제할 수 있습니다.")
+    private List<Long> postIds;
+}
@@ -0,0 +1,22 @@
+package com.untitles.domain.folder.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMoveRequestDTO {
+
+    @Size(max = 100, message = "폴더는 한 번에 100개까지 이동할 수 있습니다.")
+    private List<Long> folderIds;
+
+    @Size(max = 100, message = "게시글은 한 번에 100개까지 이동할 수 있습니다.")
+    private List<Long> postIds;
+
+    private Long targetFolderId;  // null 가능 (루트로 이동)
+}
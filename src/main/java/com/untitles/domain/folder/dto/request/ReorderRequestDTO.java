@@ -0,0 +1,17 @@
+package com.untitles.domain.folder.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 순서 변경 - 옮긴 뒤 바로 앞/뒤에 올 형제 ID (맨 앞이면 prevId, 맨 뒤면 nextId 가 null)
+ * 폴더/게시글 공통
+ * */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderRequestDTO {
+    private Long prevId;
+    private Long nextId;
+}
@@ -0,0 +1,30 @@
+package com.untitles.domain.folder.dto.response;
+
+import com.untitles.domain.post.dto.response.PostSimpleDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FolderChildrenResponseDTO {
+    private Long folderId;      // 조회한 폴더 (null 이면 루트)
+    private List<FolderNodeResponseDTO> folders;
+    private List<PostSimpleDTO> posts;
+
+    public static FolderChildrenResponseDTO of(
+            Long folderId,
+            List<FolderNodeResponseDTO> folders,
+            List<PostSimpleDTO> posts) {
+        return FolderChildrenResponseDTO.builder()
+                .folderId(folderId)
+                .folders(folders)
+                .posts(posts)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.untitles.domain.folder.dto.response;
+
+import com.untitles.domain.folder.dto.query.FolderNodeRow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/* 하위 내용 없이 개수만 담은 폴더 노드 (펼칠 때 children API 로 조회) */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FolderNodeResponseDTO {
+    private Long folderId;
+    private String name;
+    private Long parentId;
+    private String sortKey;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long childFolderCount;
+    private long postCount;
+
+    public static FolderNodeResponseDTO of(FolderNodeRow row, Long parentId) {
+        return FolderNodeResponseDTO.builder()
+                .folderId(row.folderId())
+                .name(row.name())
+                .parentId(parentId)
+                .sortKey(row.sortKey())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .childFolderCount(row.childFolderCount())
+                .postCount(row.postCount())
+                .build();
+    }
+}
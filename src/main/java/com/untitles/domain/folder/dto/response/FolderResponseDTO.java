@@ -1,5 +1,6 @@
 package com.untitles.domain.folder.dto.response;
 
+import com.untitles.domain.folder.dto.query.FolderTreeRow;
 import com.untitles.domain.folder.entity.Folder;
 import com.untitles.domain.post.dto.response.PostSimpleDTO;
 import lombok.*;
@@ -7,7 +8,6 @@ import lombok.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -15,9 +15,15 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 public class FolderResponseDTO {
     private Long folderId;
+    // 이름/부모/수정일은 트리 캐시 패치 시 변경
+    @Setter
     private String name;
+    @Setter
     private Long parentId;
+    @Setter
+    private String sortKey;
     private LocalDateTime createdAt;
+    @Setter
     private LocalDateTime updatedAt;
     // children을 수정 가능하게
     @Setter
@@ -25,22 +31,21 @@ public class FolderResponseDTO {
     @Getter
     private List<PostSimpleDTO> posts;
 
-    /* 하위 폴더 + 게시글 포함 */
+    /*
+     * 폴더 자신만 (하위 폴더/게시글은 빈 리스트)
+     * - 방금 만든 폴더처럼 하위가 없는 경우용, 하위까지 필요하면 WorkspaceTreeBuilder.buildSubtree
+     * - Lazy 컬렉션(children/posts)을 건드리지 않아 게시글 엔티티(content 포함)를 로딩하지 않음
+     * */
     public static FolderResponseDTO from(Folder folder) {
         return FolderResponseDTO.builder()
                 .folderId(folder.getFolderId())
                 .name(folder.getName())
                 .parentId(folder.getParent() != null ? folder.getParent().getFolderId() : null)
+                .sortKey(folder.getSortKey())
                 .createdAt(folder.getCreatedAt())
                 .updatedAt(folder.getUpdatedAt())
-                .children(folder.getChildren().stream() // Lazy 컬렉션 접근 → @BatchSize IN 쿼리 발생
-                        .map(FolderResponseDTO::from)   // 자식 폴더도 from() 재귀 호출
-                        .collect(Collectors.toList()))  // 자식이 없으면 빈 리스트 반환 → 재귀 종료
-                .posts(folder.getPosts() != null
-                        ? folder.getPosts().stream()
-                        .map(PostSimpleDTO::from)
-                        .collect(Collectors.toList())
-                        : new ArrayList<>())
+                .children(new ArrayList<>())
+                .posts(new ArrayList<>())
                 .build();
 
 //        return FolderResponseDTO.builder()
@@ -53,4 +58,18 @@ public class FolderResponseDTO {
 //                .build();
     }
 
+    /* 트리 조립용 - 하위 폴더/게시글은 빈 리스트로 시작해서 WorkspaceTreeBuilder 가 채움 */
+    public static FolderResponseDTO from(FolderTreeRow row) {
+        return FolderResponseDTO.builder()
+                .folderId(row.folderId())
+                .name(row.name())
+                .parentId(row.parentId())
+                .sortKey(row.sortKey())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .children(new ArrayList<>())
+                .posts(new ArrayList<>())
+                .build();
+    }
+
 }
@@ -0,0 +1,57 @@
+package com.untitles.domain.folder.dto.response;
+
+import com.untitles.domain.folder.entity.TreeChange;
+import com.untitles.domain.folder.entity.TreeChangeType;
+import com.untitles.domain.folder.entity.TreeNodeType;
+import com.untitles.domain.folder.event.TreeNodeChange;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TreeChangeResponseDTO {
+    private Long revision;
+    private TreeNodeType nodeType;
+    private TreeChangeType changeType;
+    private Long nodeId;
+    private Long parentId;      // 폴더: 상위 폴더 / 게시글: 소속 폴더 (null 이면 루트)
+    private String name;        // 폴더명 또는 게시글 제목
+    private String sortKey;     // 형제 간 정렬 키
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static TreeChangeResponseDTO from(TreeChange change) {
+        return TreeChangeResponseDTO.builder()
+                .revision(change.getRevision())
+                .nodeType(change.getNodeType())
+                .changeType(change.getChangeType())
+                .nodeId(change.getNodeId())
+                .parentId(change.getParentId())
+                .name(change.getName())
+                .sortKey(change.getSortKey())
+                .createdAt(change.getNodeCreatedAt())
+                .updatedAt(change.getNodeUpdatedAt())
+                .build();
+    }
+
+    // 커밋 직후 이벤트에서 바로 만드는 경우 (로그 조회 없이)
+    public static TreeChangeResponseDTO of(long revision, TreeNodeChange change) {
+        return TreeChangeResponseDTO.builder()
+                .revision(revision)
+                .nodeType(change.nodeType())
+                .changeType(change.changeType())
+                .nodeId(change.nodeId())
+                .parentId(change.parentId())
+                .name(change.name())
+                .sortKey(change.sortKey())
+                .createdAt(change.createdAt())
+                .updatedAt(change.updatedAt())
+                .build();
+    }
+}
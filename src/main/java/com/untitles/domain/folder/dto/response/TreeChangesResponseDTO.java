@@ -0,0 +1,36 @@
+package com.untitles.domain.folder.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TreeChangesResponseDTO {
+    // 현재 트리 revision - 다음 요청의 since 로 사용
+    private Long revision;
+    // true 면 변경 로그가 잘려서 증분 동기화 불가 → 전체 트리 재조회
+    private boolean fullResync;
+    private List<TreeChangeResponseDTO> changes;
+
+    public static TreeChangesResponseDTO of(long revision, List<TreeChangeResponseDTO> changes) {
+        return TreeChangesResponseDTO.builder()
+                .revision(revision)
+                .fullResync(false)
+                .changes(changes)
+                .build();
+    }
+
+    public static TreeChangesResponseDTO resync(long revision) {
+        return TreeChangesResponseDTO.builder()
+                .revision(revision)
+                .fullResync(true)
+                .changes(List.of())
+                .build();
+    }
+}
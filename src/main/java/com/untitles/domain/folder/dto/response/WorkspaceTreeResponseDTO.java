@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.util.List;
 
@@ -15,6 +16,9 @@ import java.util.List;
 public class WorkspaceTreeResponseDTO {
     private List<FolderResponseDTO> folders;
     private List<PostSimpleDTO> rootPosts;
+    // 트리 revision - 캐시 유효성 판단 및 클라이언트 변경분 동기화 기준
+    @Setter
+    private Long revision;
 
     public static WorkspaceTreeResponseDTO of(
             List<FolderResponseDTO> folders,
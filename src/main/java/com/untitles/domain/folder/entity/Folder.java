@@ -17,6 +17,10 @@ import java.util.List;
 @Builder
 
 @Entity
+@Table(name = "folder", indexes = {
+        @Index(name = "idx_folder_path", columnList = "path"),
+        @Index(name = "idx_folder_parent_sort", columnList = "parent_id, sort_key")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -37,6 +41,14 @@ public class Folder {
     @Column(nullable = false, length = 50)
     private String name;
 
+    // 조상 경로 (예: "/1/5/9/", 자기 자신 포함) - 하위 여부 판단/서브트리 조회를 접두사 비교로 처리
+    @Column(length = 700)
+    private String path;
+
+    // 형제 간 정렬 키 (FractionalIndex) - 순서를 바꿀 때 이 행만 수정
+    @Column(name = "sort_key", nullable = false)
+    private String sortKey;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -48,12 +60,14 @@ public class Folder {
     // 양방향 - 하위 폴더들
     @BatchSize(size = 100)
     @Builder.Default
+    @OrderBy("sortKey ASC, folderId ASC")
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Folder> children = new ArrayList<>();
 
     // 양방향 - 폴더 내 게시글들
     @BatchSize(size = 100)
     @Builder.Default
+    @OrderBy("sortKey ASC, postId ASC")
     @OneToMany(mappedBy = "folder", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Post> posts = new ArrayList<>();
 
@@ -68,6 +82,13 @@ public class Folder {
         this.name = name;
     }
 
+    /*
+     * 정렬 키 변경 (형제 사이 순서 이동)
+     * */
+    public void updateSortKey(String sortKey) {
+        this.sortKey = sortKey;
+    }
+
     /*
      * 상위 폴더 변경 (폴더 이동)
      * */
@@ -82,6 +103,42 @@ public class Folder {
         if (newParent != null) {
             newParent.getChildren().add(this);
         }
+        // 자기 경로 갱신 (하위 폴더 경로는 FolderRepository.updateSubtreePath 로 일괄 갱신)
+        assignPath();
+    }
+
+    /*
+     * 경로 지정 - IDENTITY 전략이라 folderId 가 생긴 뒤(save 이후)에 호출
+     * */
+    public void assignPath() {
+        this.path = (parent != null ? parent.getPath() : "/") + folderId + "/";
+    }
+
+    /*
+     * 자기 자신 또는 하위 폴더인지 (경로 접두사 비교)
+     * */
+    public boolean contains(Folder other) {
+        return other.getPath().startsWith(this.path);
+    }
+
+    /*
+     * 루트부터 자기 자신까지의 폴더 ID 목록
+     * */
+    public List<Long> getPathIds() {
+        return parsePathIds(path);
+    }
+
+    /*
+     * 경로 문자열("/1/5/9/")을 폴더 ID 목록으로 (엔티티 없이 조회한 경로에도 사용)
+     * */
+    public static List<Long> parsePathIds(String path) {
+        List<Long> ids = new ArrayList<>();
+        for (String id : path.split("/")) {
+            if (!id.isEmpty()) {
+                ids.add(Long.parseLong(id));
+            }
+        }
+        return ids;
     }
 
 
@@ -94,12 +151,13 @@ public class Folder {
     }
 
     // 정적 팩토리 메서드
-    public static Folder create(Users user, Workspace workspace, Folder parent, String name) {
+    public static Folder create(Users user, Workspace workspace, Folder parent, String name, String sortKey) {
         return Folder.builder()
                 .user(user)
                 .workspace(workspace)
                 .parent(parent)
                 .name(name)
+                .sortKey(sortKey)
                 .build();
     }
 }
\ No newline at end of file
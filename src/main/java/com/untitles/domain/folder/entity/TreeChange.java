@@ -0,0 +1,71 @@
+package com.untitles.domain.folder.entity;
+
+import com.untitles.domain.folder.event.TreeNodeChange;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트리 변경 로그 - 클라이언트 증분 동기화(GET .../folders/changes?since=) 용
+ * - 워크스페이스별 최근 revision 일부만 보관, 그 이전을 요청하면 전체 재조회 안내
+ */
+@Builder
+@Entity
+@Table(name = "tree_change", indexes = @Index(name = "idx_tree_change_workspace_revision", columnList = "workspace_id, revision"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TreeChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long changeId;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Column(nullable = false)
+    private Long revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "node_type", nullable = false, length = 10)
+    private TreeNodeType nodeType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private TreeChangeType changeType;
+
+    @Column(name = "node_id", nullable = false)
+    private Long nodeId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(length = 200)
+    private String name;
+
+    @Column(name = "sort_key")
+    private String sortKey;
+
+    @Column(name = "node_created_at")
+    private LocalDateTime nodeCreatedAt;
+
+    @Column(name = "node_updated_at")
+    private LocalDateTime nodeUpdatedAt;
+
+    public static TreeChange of(Long workspaceId, long revision, TreeNodeChange change) {
+        return TreeChange.builder()
+                .workspaceId(workspaceId)
+                .revision(revision)
+                .nodeType(change.nodeType())
+                .changeType(change.changeType())
+                .nodeId(change.nodeId())
+                .parentId(change.parentId())
+                .name(change.name())
+                .sortKey(change.sortKey())
+                .nodeCreatedAt(change.createdAt())
+                .nodeUpdatedAt(change.updatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.untitles.domain.folder.entity;
+
+public enum TreeChangeType {
+    CREATED,   // 생성
+    UPDATED,   // 이름/제목 등 수정
+    MOVED,     // 상위 폴더 변경
+    DELETED    // 삭제 (폴더는 서브트리 포함)
+}
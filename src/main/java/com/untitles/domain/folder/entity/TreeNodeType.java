@@ -0,0 +1,6 @@
+package com.untitles.domain.folder.entity;
+
+public enum TreeNodeType {
+    FOLDER,
+    POST
+}
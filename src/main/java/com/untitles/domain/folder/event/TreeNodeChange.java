@@ -0,0 +1,47 @@
+package com.untitles.domain.folder.event;
+
+import com.untitles.domain.folder.entity.Folder;
+import com.untitles.domain.folder.entity.TreeChangeType;
+import com.untitles.domain.folder.entity.TreeNodeType;
+import com.untitles.domain.post.entity.Post;
+
+import java.time.LocalDateTime;
+
+/*
+ * 트리 노드 하나의 변경 내용 (변경 후 상태 기준)
+ * */
+public record TreeNodeChange(
+        TreeNodeType nodeType,
+        TreeChangeType changeType,
+        Long nodeId,
+        Long parentId,      // 폴더: 상위 폴더 / 게시글: 소속 폴더 (null 이면 루트)
+        String name,        // 폴더명 또는 게시글 제목
+        String sortKey,     // 형제 간 정렬 키
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static TreeNodeChange ofFolder(TreeChangeType changeType, Folder folder) {
+        return new TreeNodeChange(
+                TreeNodeType.FOLDER,
+                changeType,
+                folder.getFolderId(),
+                folder.getParent() != null ? folder.getParent().getFolderId() : null,
+                folder.getName(),
+                folder.getSortKey(),
+                folder.getCreatedAt(),
+                folder.getUpdatedAt());
+    }
+
+    public static TreeNodeChange ofPost(TreeChangeType changeType, Post post) {
+        return new TreeNodeChange(
+                TreeNodeType.POST,
+                changeType,
+                post.getPostId(),
+                post.getFolder() != null ? post.getFolder().getFolderId() : null,
+                post.getTitle(),
+                post.getSortKey(),
+                post.getCreatedAt(),
+                post.getUpdatedAt());
+    }
+}
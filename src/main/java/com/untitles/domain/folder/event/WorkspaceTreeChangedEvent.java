@@ -0,0 +1,13 @@
+package com.untitles.domain.folder.event;
+
+import java.util.List;
+
+/*
+ * 워크스페이스 트리 변경 이벤트 - revision 하나에 변경 여러 개가 묶일 수 있음
+ * */
+public record WorkspaceTreeChangedEvent(
+        Long workspaceId,
+        long revision,
+        List<TreeNodeChange> changes
+) {
+}
@@ -1,5 +1,8 @@
 package com.untitles.domain.folder.repository;
 
+import com.untitles.domain.folder.dto.query.FolderNodeRow;
+import com.untitles.domain.folder.dto.query.FolderTreeRow;
+import com.untitles.domain.folder.dto.query.FolderVisibilityRow;
 import com.untitles.domain.folder.entity.Folder;
 import com.untitles.domain.workspace.entity.Workspace;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +10,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +21,8 @@ public interface FolderRepository extends JpaRepository<Folder, Long> {
 
     List<Folder> findAllByWorkspaceWorkspaceId(Long workspaceId);
 
+    List<Folder> findAllByFolderIdInAndWorkspaceWorkspaceId(Collection<Long> folderIds, Long workspaceId);
+
     // 폴더과 게시글 한번에 조회
     @Query("SELECT DISTINCT f FROM Folder f " +
             "LEFT JOIN FETCH f.posts " +
@@ -23,6 +30,54 @@ public interface FolderRepository extends JpaRepository<Folder, Long> {
     )
     List<Folder> findAllByWorkspaceIdWithPosts(@Param("workspaceId") Long workspaceId);
 
+    // 트리 조립용 - 워크스페이스의 모든 폴더를 평면으로 한 번에 조회
+    @Query("SELECT new com.untitles.domain.folder.dto.query.FolderTreeRow(" +
+            "f.folderId, p.folderId, f.name, f.sortKey, f.createdAt, f.updatedAt) " +
+            "FROM Folder f LEFT JOIN f.parent p " +
+            "WHERE f.workspace.workspaceId = :workspaceId " +
+            "ORDER BY f.sortKey, f.folderId"
+    )
+    List<FolderTreeRow> findTreeRowsByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    // 서브트리(경로 접두사, 자기 자신 포함) 폴더만 평면 조회
+    @Query("SELECT new com.untitles.domain.folder.dto.query.FolderTreeRow(" +
+            "f.folderId, p.folderId, f.name, f.sortKey, f.createdAt, f.updatedAt) " +
+            "FROM Folder f LEFT JOIN f.parent p " +
+            "WHERE f.path LIKE CONCAT(:path, '%') " +
+            "ORDER BY f.sortKey, f.folderId"
+    )
+    List<FolderTreeRow> findTreeRowsInSubtree(@Param("path") String path);
+
+    // 공개 트리 조립용 - 전체공개 판단에 필요한 경로/publishAll 까지
+    @Query("SELECT new com.untitles.domain.folder.dto.query.FolderVisibilityRow(" +
+            "f.folderId, p.folderId, f.name, f.sortKey, f.createdAt, f.updatedAt, f.path, f.publishAll) " +
+            "FROM Folder f LEFT JOIN f.parent p " +
+            "WHERE f.workspace.workspaceId = :workspaceId " +
+            "ORDER BY f.sortKey, f.folderId"
+    )
+    List<FolderVisibilityRow> findVisibilityRowsByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    // 한 단계 조회용 - 특정 폴더의 하위 폴더 + 각 폴더의 하위 폴더/게시글 수
+    @Query("SELECT new com.untitles.domain.folder.dto.query.FolderNodeRow(" +
+            "f.folderId, f.name, f.sortKey, f.createdAt, f.updatedAt, " +
+            "(SELECT COUNT(c) FROM Folder c WHERE c.parent = f), " +
+            "(SELECT COUNT(p) FROM Post p WHERE p.folder = f)) " +
+            "FROM Folder f " +
+            "WHERE f.workspace.workspaceId = :workspaceId AND f.parent.folderId = :parentId " +
+            "ORDER BY f.sortKey, f.folderId"
+    )
+    List<FolderNodeRow> findNodeRowsByParentId(@Param("workspaceId") Long workspaceId, @Param("parentId") Long parentId);
+
+    @Query("SELECT new com.untitles.domain.folder.dto.query.FolderNodeRow(" +
+            "f.folderId, f.name, f.sortKey, f.createdAt, f.updatedAt, " +
+            "(SELECT COUNT(c) FROM Folder c WHERE c.parent = f), " +
+            "(SELECT COUNT(p) FROM Post p WHERE p.folder = f)) " +
+            "FROM Folder f " +
+            "WHERE f.workspace.workspaceId = :workspaceId AND f.parent IS NULL " +
+            "ORDER BY f.sortKey, f.folderId"
+    )
+    List<FolderNodeRow> findRootNodeRows(@Param("workspaceId") Long workspaceId);
+
 
     @Modifying
     @Query("UPDATE Folder f SET f.parent = null WHERE f.workspace.workspaceId = :workspaceId")
@@ -33,7 +88,58 @@ public interface FolderRepository extends JpaRepository<Folder, Long> {
             void deleteAllByWorkspaceId(@Param("workspaceId") Long workspaceId);
 
         // 워크스페이스의 루트 폴더들 조회
-    List<Folder> findByWorkspaceWorkspaceIdAndParentIsNull(Long workspaceId);
+    List<Folder> findByWorkspaceWorkspaceIdAndParentIsNullOrderBySortKeyAscFolderIdAsc(Long workspaceId);
+
+    // 형제 중 마지막 정렬 키 (새로 만들거나 옮긴 폴더를 맨 뒤에 두기 위해)
+    @Query("SELECT MAX(f.sortKey) FROM Folder f " +
+            "WHERE f.workspace.workspaceId = :workspaceId AND f.parent.folderId = :parentId")
+    String findLastSortKey(@Param("workspaceId") Long workspaceId, @Param("parentId") Long parentId);
+
+    @Query("SELECT MAX(f.sortKey) FROM Folder f " +
+            "WHERE f.workspace.workspaceId = :workspaceId AND f.parent IS NULL")
+    String findLastRootSortKey(@Param("workspaceId") Long workspaceId);
+
+    // 폴더 이동 시 하위 폴더 경로 일괄 변경 (자기 자신은 엔티티에서 변경)
+    @Modifying
+    @Query("UPDATE Folder f SET f.path = CONCAT(:newPath, SUBSTRING(f.path, LENGTH(:oldPath) + 1)) " +
+            "WHERE f.path LIKE CONCAT(:oldPath, '%') AND f.path <> :oldPath")
+    void updateSubtreePath(@Param("oldPath") String oldPath, @Param("newPath") String newPath);
+
+    // 일괄 이동용 - 자기 자신 포함 서브트리 경로 변경
+    @Modifying
+    @Query("UPDATE Folder f SET f.path = CONCAT(:newPath, SUBSTRING(f.path, LENGTH(:oldPath) + 1)) " +
+            "WHERE f.path LIKE CONCAT(:oldPath, '%')")
+    void updatePathPrefix(@Param("oldPath") String oldPath, @Param("newPath") String newPath);
+
+    @Modifying
+    // 일괄 이동 시 한 폴더씩 (정렬 키는 서비스에서 새 형제들 뒤로 이어지게 새로 발급)
+    @Query("UPDATE Folder f SET f.parent = :parent, f.sortKey = :sortKey, f.updatedAt = :now " +
+            "WHERE f.folderId = :folderId")
+    void moveToParent(@Param("folderId") Long folderId,
+                      @Param("parent") Folder parent,
+                      @Param("sortKey") String sortKey,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Folder f SET f.sortKey = :sortKey WHERE f.folderId = :folderId")
+    void updateSortKey(@Param("folderId") Long folderId, @Param("sortKey") String sortKey);
+
+    // 공개 설정 저장용 - 바뀐 폴더만 전체공개 일괄 변경
+    @Modifying
+    @Query("UPDATE Folder f SET f.publishAll = :publishAll " +
+            "WHERE f.workspace.workspaceId = :workspaceId AND f.folderId IN :folderIds")
+    void updatePublishAll(@Param("workspaceId") Long workspaceId,
+                          @Param("folderIds") Collection<Long> folderIds,
+                          @Param("publishAll") boolean publishAll);
+
+    // 서브트리 삭제 전 self FK 해제 (삭제 순서와 무관하게 지우기 위해)
+    @Modifying
+    @Query("UPDATE Folder f SET f.parent = null WHERE f.path LIKE CONCAT(:path, '%')")
+    void clearParentInSubtree(@Param("path") String path);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Folder f WHERE f.path LIKE CONCAT(:path, '%')")
+    void deleteSubtree(@Param("path") String path);
 
     long countByWorkspace(Workspace workspace);
 }
@@ -0,0 +1,26 @@
+package com.untitles.domain.folder.repository;
+
+import com.untitles.domain.folder.entity.TreeChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TreeChangeRepository extends JpaRepository<TreeChange, Long> {
+
+    List<TreeChange> findByWorkspaceIdAndRevisionBetweenOrderByRevisionAscChangeIdAsc(Long workspaceId, Long from, Long to);
+
+    // 보관 중인 가장 오래된 revision (로그가 비어 있으면 null)
+    @Query("SELECT MIN(c.revision) FROM TreeChange c WHERE c.workspaceId = :workspaceId")
+    Long findOldestRevision(@Param("workspaceId") Long workspaceId);
+
+    @Modifying
+    @Query("DELETE FROM TreeChange c WHERE c.workspaceId = :workspaceId AND c.revision <= :revision")
+    void deleteUpToRevision(@Param("workspaceId") Long workspaceId, @Param("revision") Long revision);
+
+    @Modifying
+    @Query("DELETE FROM TreeChange c WHERE c.workspaceId = :workspaceId")
+    void deleteAllByWorkspaceId(@Param("workspaceId") Long workspaceId);
+}
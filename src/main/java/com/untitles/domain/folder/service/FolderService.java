@@ -1,11 +1,23 @@
 package com.untitles.domain.folder.service;
 
+import com.untitles.domain.folder.dto.request.BulkDeleteRequestDTO;
+import com.untitles.domain.folder.dto.request.BulkMoveRequestDTO;
 import com.untitles.domain.folder.dto.request.FolderCreateRequestDTO;
 import com.untitles.domain.folder.dto.request.FolderUpdateRequestDTO;
+import com.untitles.domain.folder.dto.request.ReorderRequestDTO;
+import com.untitles.domain.folder.dto.query.FolderNodeRow;
+import com.untitles.domain.folder.dto.response.FolderChildrenResponseDTO;
+import com.untitles.domain.folder.dto.response.FolderNodeResponseDTO;
 import com.untitles.domain.folder.dto.response.FolderResponseDTO;
+import com.untitles.domain.folder.dto.response.TreeChangesResponseDTO;
 import com.untitles.domain.folder.dto.response.WorkspaceTreeResponseDTO;
 import com.untitles.domain.folder.entity.Folder;
+import com.untitles.domain.folder.entity.TreeChangeType;
+import com.untitles.domain.folder.entity.TreeNodeType;
+import com.untitles.domain.folder.event.TreeNodeChange;
 import com.untitles.domain.folder.repository.FolderRepository;
+import com.untitles.domain.post.dto.query.PostLocationRow;
+import com.untitles.domain.post.dto.query.PostTreeRow;
 import com.untitles.domain.post.dto.response.PostSimpleDTO;
 import com.untitles.domain.post.repository.PostRepository;
 import com.untitles.domain.user.entity.Users;
@@ -14,14 +26,22 @@ import com.untitles.domain.workspace.entity.WorkspaceMember;
 import com.untitles.domain.workspace.repository.WorkspaceMemberRepository;
 import com.untitles.global.exception.BusinessException;
 import com.untitles.global.exception.ErrorCode;
+import com.untitles.global.util.FractionalIndex;
 import com.untitles.global.util.WorkspaceMemberHelper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -32,12 +52,19 @@ public class FolderService {
     private final PostRepository postRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final WorkspaceMemberHelper workspaceMemberHelper;
+    private final WorkspaceTreeBuilder workspaceTreeBuilder;
+    private final WorkspaceTreeCache workspaceTreeCache;
+    private final WorkspaceTreeRevisionService workspaceTreeRevisionService;
+    private final WorkspaceTreeStream workspaceTreeStream;
+
+    // 워크스페이스당 폴더 수 제한 (큰 트리는 children API 로 한 단계씩 조회)
+    @Value("${app.limits.folders-per-workspace:20}")
+    private long folderLimit;
 
     /**
      * 폴더 생성
      */
     @Transactional
-    @CacheEvict(value = "workspaceTree", key = "#workspaceId")
     public FolderResponseDTO createFolder(Long userId, Long workspaceId, FolderCreateRequestDTO request) {
         WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
         workspaceMemberHelper.checkWritePermission(member);
@@ -46,7 +73,7 @@ public class FolderService {
         Workspace workspace = member.getWorkspace();
 
         long folderCount = folderRepository.countByWorkspace(workspace);
-        if (folderCount >= 20) {
+        if (folderCount >= folderLimit) {
             throw new BusinessException(ErrorCode.FOLDER_LIMIT_EXCEEDED);
         }
 
@@ -56,8 +83,12 @@ public class FolderService {
                     .orElseThrow(() -> new BusinessException(ErrorCode.FOLDER_NOT_FOUND));
         }
 
-        Folder folder = Folder.create(user, workspace, parent, request.getName());
+        // 형제 중 맨 뒤에 추가
+        String sortKey = FractionalIndex.between(lastSortKey(workspaceId, request.getParentId()), null);
+        Folder folder = Folder.create(user, workspace, parent, request.getName(), sortKey);
         Folder savedFolder = folderRepository.save(folder);
+        savedFolder.assignPath();
+        workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofFolder(TreeChangeType.CREATED, savedFolder));
         return FolderResponseDTO.from(savedFolder);
     }
 
@@ -65,7 +96,6 @@ public class FolderService {
      * 폴더 수정
      */
     @Transactional
-    @CacheEvict(value = "workspaceTree", key = "#workspaceId")
     public FolderResponseDTO updateFolder(Long userId, Long workspaceId, Long folderId, FolderUpdateRequestDTO request) {
         WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
         workspaceMemberHelper.checkWritePermission(member);
@@ -74,15 +104,15 @@ public class FolderService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.FOLDER_NOT_FOUND));
 
         folder.updateName(request.getName());
-        folderRepository.save(folder);
-        return FolderResponseDTO.from(folder);
+        folderRepository.saveAndFlush(folder);
+        workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofFolder(TreeChangeType.UPDATED, folder));
+        return workspaceTreeBuilder.buildSubtree(folder);
     }
 
     /**
      * 폴더 삭제
      */
     @Transactional
-    @CacheEvict(value = "workspaceTree", key = "#workspaceId")
     public void deleteFolder(Long userId, Long workspaceId, Long folderId) {
         WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
         workspaceMemberHelper.checkWritePermission(member);
@@ -90,14 +120,19 @@ public class FolderService {
         Folder folder = folderRepository.findByFolderIdAndWorkspaceWorkspaceId(folderId, workspaceId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FOLDER_NOT_FOUND));
 
-        folderRepository.delete(folder);
+        // 서브트리 전체를 경로 접두사로 한 번에 삭제 (cascade 로 폴더마다 로딩하지 않음)
+        String path = folder.getPath();
+        TreeNodeChange change = TreeNodeChange.ofFolder(TreeChangeType.DELETED, folder);
+        postRepository.deleteAllInFolderSubtree(path);
+        folderRepository.clearParentInSubtree(path);
+        folderRepository.deleteSubtree(path);
+        workspaceTreeRevisionService.record(workspaceId, change);
     }
 
     /**
      * 폴더 이동
      */
     @Transactional
-    @CacheEvict(value = "workspaceTree", key = "#workspaceId")
     public FolderResponseDTO moveFolder(Long userId, Long workspaceId, Long folderId, Long newParentId) {
         WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
         workspaceMemberHelper.checkWritePermission(member);
@@ -114,42 +149,285 @@ public class FolderService {
                 throw new BusinessException(ErrorCode.CANNOT_MOVE_TO_SELF);
             }
 
-            Folder current = newParent;
-            while (current != null) {
-                if (current.getFolderId().equals(folderId)) {
+            // 새 부모가 내 서브트리 안에 있으면 순환
+            if (folder.contains(newParent)) {
+                throw new BusinessException(ErrorCode.CANNOT_MOVE_TO_CHILD);
+            }
+        }
+
+        String oldPath = folder.getPath();
+        folder.moveToParent(newParent);
+        folder.updateSortKey(FractionalIndex.between(lastSortKey(workspaceId, newParentId), null));
+        folderRepository.saveAndFlush(folder);
+        folderRepository.updateSubtreePath(oldPath, folder.getPath());
+        workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofFolder(TreeChangeType.MOVED, folder));
+        return workspaceTreeBuilder.buildSubtree(folder);
+    }
+
+    /**
+     * 폴더 순서 변경 (같은 부모 안에서 prevId 와 nextId 사이로)
+     * - 두 형제의 정렬 키 사이 값을 새로 발급하므로 옮긴 폴더 한 행만 수정
+     */
+    @Transactional
+    public FolderResponseDTO reorderFolder(Long userId, Long workspaceId, Long folderId, ReorderRequestDTO request) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+
+        Folder folder = folderRepository.findByFolderIdAndWorkspaceWorkspaceId(folderId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FOLDER_NOT_FOUND));
+        if (request.getPrevId() == null && request.getNextId() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        String before = siblingSortKey(workspaceId, folder, request.getPrevId());
+        String after = siblingSortKey(workspaceId, folder, request.getNextId());
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        folder.updateSortKey(FractionalIndex.between(before, after));
+        folderRepository.saveAndFlush(folder);
+        workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofFolder(TreeChangeType.MOVED, folder));
+        return workspaceTreeBuilder.buildSubtree(folder);
+    }
+
+    /**
+     * 폴더/게시글 일괄 이동
+     * - 권한/순환 검사는 한 번만, 변경은 벌크 UPDATE, 트리 revision 도 한 번만 증가
+     * - 선택한 폴더의 하위에 있는 항목은 상위 폴더를 따라 이동하므로 대상에서 제외
+     */
+    @Transactional
+    public void moveBulk(Long userId, Long workspaceId, BulkMoveRequestDTO request) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+
+        List<Folder> folders = findFoldersOrThrow(workspaceId, request.getFolderIds());
+        List<PostLocationRow> posts = findPostsOrThrow(workspaceId, request.getPostIds());
+        if (folders.isEmpty() && posts.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        Folder target = null;
+        if (request.getTargetFolderId() != null) {
+            target = folderRepository.findByFolderIdAndWorkspaceWorkspaceId(request.getTargetFolderId(), workspaceId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.FOLDER_NOT_FOUND));
+
+            for (Folder folder : folders) {
+                if (folder.getFolderId().equals(target.getFolderId())) {
+                    throw new BusinessException(ErrorCode.CANNOT_MOVE_TO_SELF);
+                }
+                if (folder.contains(target)) {
                     throw new BusinessException(ErrorCode.CANNOT_MOVE_TO_CHILD);
                 }
-                current = current.getParent();
             }
         }
 
-        folder.moveToParent(newParent);
-        folderRepository.save(folder);
-        return FolderResponseDTO.from(folder);
+        List<Folder> topFolders = topLevelOnly(folders);
+        List<PostLocationRow> loosePosts = outsideOf(posts, topFolders);
+
+        LocalDateTime now = LocalDateTime.now();
+        Long targetId = target != null ? target.getFolderId() : null;
+        String targetPath = target != null ? target.getPath() : "/";
+        List<TreeNodeChange> changes = new ArrayList<>();
+
+        // 옮긴 항목은 기존 정렬 키 순서대로 대상의 마지막 키 다음부터 새 키를 이어서 발급 (키 길이가 쌓이지 않음)
+        if (!topFolders.isEmpty()) {
+            String sortKey = lastSortKey(workspaceId, targetId);
+            for (Folder folder : sortedBySortKey(topFolders, Folder::getSortKey, Folder::getFolderId)) {
+                sortKey = FractionalIndex.between(sortKey, null);
+                folderRepository.moveToParent(folder.getFolderId(), target, sortKey, now);
+                folderRepository.updatePathPrefix(folder.getPath(), targetPath + folder.getFolderId() + "/");
+                changes.add(new TreeNodeChange(TreeNodeType.FOLDER, TreeChangeType.MOVED,
+                        folder.getFolderId(), targetId, folder.getName(), sortKey,
+                        folder.getCreatedAt(), now));
+            }
+        }
+        if (!loosePosts.isEmpty()) {
+            String sortKey = targetId != null
+                    ? postRepository.findLastSortKey(workspaceId, targetId)
+                    : postRepository.findLastRootSortKey(workspaceId);
+            for (PostLocationRow post : sortedBySortKey(loosePosts, PostLocationRow::sortKey, PostLocationRow::postId)) {
+                sortKey = FractionalIndex.between(sortKey, null);
+                postRepository.moveToFolder(post.postId(), target, sortKey, now);
+                changes.add(new TreeNodeChange(TreeNodeType.POST, TreeChangeType.MOVED,
+                        post.postId(), targetId, post.title(), sortKey, post.createdAt(), now));
+            }
+        }
+        workspaceTreeRevisionService.record(workspaceId, changes);
+    }
+
+    /**
+     * 폴더/게시글 일괄 삭제
+     * - 선택한 폴더의 하위에 있는 항목은 서브트리 삭제에 포함되므로 따로 처리하지 않음
+     */
+    @Transactional
+    public void deleteBulk(Long userId, Long workspaceId, BulkDeleteRequestDTO request) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+
+        List<Folder> folders = findFoldersOrThrow(workspaceId, request.getFolderIds());
+        List<PostLocationRow> posts = findPostsOrThrow(workspaceId, request.getPostIds());
+        if (folders.isEmpty() && posts.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        List<Folder> topFolders = topLevelOnly(folders);
+        List<PostLocationRow> loosePosts = outsideOf(posts, topFolders);
+        List<TreeNodeChange> changes = new ArrayList<>();
+
+        if (!loosePosts.isEmpty()) {
+            postRepository.deleteAllByPostIdIn(loosePosts.stream().map(PostLocationRow::postId).toList());
+            for (PostLocationRow post : loosePosts) {
+                changes.add(new TreeNodeChange(TreeNodeType.POST, TreeChangeType.DELETED,
+                        post.postId(), post.folderId(), post.title(), post.sortKey(), post.createdAt(), null));
+            }
+        }
+        for (Folder folder : topFolders) {
+            changes.add(TreeNodeChange.ofFolder(TreeChangeType.DELETED, folder));
+            String path = folder.getPath();
+            postRepository.deleteAllInFolderSubtree(path);
+            folderRepository.clearParentInSubtree(path);
+            folderRepository.deleteSubtree(path);
+        }
+        workspaceTreeRevisionService.record(workspaceId, changes);
     }
 
     /**
      * 워크스페이스 트리 조회 (루트 폴더 + 루트 게시글)
+     * - 캐시된 트리의 revision 이 DB revision 과 같을 때만 사용, 다르면 재조립 후 캐시 갱신
      */
-    @Cacheable(value = "workspaceTree", key = "#workspaceId")
     public WorkspaceTreeResponseDTO getRootFolders(Long userId, Long workspaceId) {
         workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
 
-        List<FolderResponseDTO> folders = folderRepository
-                .findByWorkspaceWorkspaceIdAndParentIsNull(workspaceId)
-                .stream()
-                .map(FolderResponseDTO::from)
-                .toList();
+        long revision = workspaceTreeRevisionService.getRevision(workspaceId);
+        return workspaceTreeCache.get(workspaceId, revision, () -> {
+            WorkspaceTreeResponseDTO tree = workspaceTreeBuilder.build(workspaceId);
+            tree.setRevision(revision);
+            return tree;
+        });
+    }
+
+    /**
+     * 트리 ETag (트리를 조립하지 않고 revision 만 조회)
+     */
+    public String getTreeETag(Long userId, Long workspaceId) {
+        workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        return "tree-" + workspaceId + "-" + workspaceTreeRevisionService.getRevision(workspaceId);
+    }
+
+    /**
+     * 트리 변경분 조회 (since revision 이후)
+     */
+    public TreeChangesResponseDTO getTreeChanges(Long userId, Long workspaceId, long since) {
+        workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        return workspaceTreeRevisionService.getChangesSince(workspaceId, since);
+    }
 
-        List<PostSimpleDTO> rootPosts = postRepository
-                .findByWorkspaceWorkspaceIdAndFolderIsNull(workspaceId)
-                .stream()
+    /**
+     * 트리 변경 실시간 구독 (SSE)
+     * - lastRevision: 재연결 시 Last-Event-ID, 그 이후 변경을 먼저 받음
+     */
+    public SseEmitter subscribeTreeChanges(Long userId, Long workspaceId, Long lastRevision) {
+        workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        return workspaceTreeStream.subscribe(workspaceId, lastRevision);
+    }
+
+    /**
+     * 폴더 한 단계 조회 (하위 폴더 + 게시글, 하위 폴더는 개수만 포함)
+     * - folderId 가 null 이면 루트
+     */
+    public FolderChildrenResponseDTO getChildren(Long userId, Long workspaceId, Long folderId) {
+        workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+
+        List<FolderNodeRow> folderRows;
+        List<PostTreeRow> postRows;
+        if (folderId == null) {
+            folderRows = folderRepository.findRootNodeRows(workspaceId);
+            postRows = postRepository.findRootTreeRows(workspaceId);
+        } else {
+            folderRepository.findByFolderIdAndWorkspaceWorkspaceId(folderId, workspaceId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.FOLDER_NOT_FOUND));
+            folderRows = folderRepository.findNodeRowsByParentId(workspaceId, folderId);
+            postRows = postRepository.findTreeRowsByFolderId(workspaceId, folderId);
+        }
+
+        List<FolderNodeResponseDTO> folders = folderRows.stream()
+                .map(row -> FolderNodeResponseDTO.of(row, folderId))
+                .toList();
+        List<PostSimpleDTO> posts = postRows.stream()
                 .map(PostSimpleDTO::from)
                 .toList();
+        return FolderChildrenResponseDTO.of(folderId, folders, posts);
+    }
+
+    private String lastSortKey(Long workspaceId, Long parentId) {
+        return parentId != null
+                ? folderRepository.findLastSortKey(workspaceId, parentId)
+                : folderRepository.findLastRootSortKey(workspaceId);
+    }
 
-        return WorkspaceTreeResponseDTO.builder()
-                .folders(folders)
-                .rootPosts(rootPosts)
-                .build();
+    // 순서 변경 기준 형제 폴더의 정렬 키 (같은 부모가 아니면 잘못된 요청)
+    private String siblingSortKey(Long workspaceId, Folder folder, Long siblingId) {
+        if (siblingId == null) {
+            return null;
+        }
+        Folder sibling = folderRepository.findByFolderIdAndWorkspaceWorkspaceId(siblingId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FOLDER_NOT_FOUND));
+        if (sibling.getFolderId().equals(folder.getFolderId())
+                || !Objects.equals(parentIdOf(sibling), parentIdOf(folder))) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        return sibling.getSortKey();
+    }
+
+    private Long parentIdOf(Folder folder) {
+        return folder.getParent() != null ? folder.getParent().getFolderId() : null;
+    }
+
+    private List<Folder> findFoldersOrThrow(Long workspaceId, List<Long> folderIds) {
+        if (folderIds == null || folderIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>(folderIds);
+        List<Folder> folders = folderRepository.findAllByFolderIdInAndWorkspaceWorkspaceId(ids, workspaceId);
+        if (folders.size() != ids.size()) {
+            throw new BusinessException(ErrorCode.FOLDER_NOT_FOUND);
+        }
+        return folders;
+    }
+
+    private List<PostLocationRow> findPostsOrThrow(Long workspaceId, List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        List<PostLocationRow> posts = postRepository.findLocationRows(workspaceId, ids);
+        if (posts.size() != ids.size()) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+        return posts;
+    }
+
+    // 일괄 이동할 항목을 기존 정렬 키 순서로 (키가 같으면 id 순서) - 옮긴 뒤에도 서로의 순서 유지
+    private static <T> List<T> sortedBySortKey(List<T> items, Function<T, String> sortKey, Function<T, Long> id) {
+        return items.stream()
+                .sorted(Comparator.comparing(sortKey).thenComparing(id))
+                .toList();
+    }
+
+    // 다른 선택 폴더의 하위가 아닌 폴더만
+    private List<Folder> topLevelOnly(List<Folder> folders) {
+        return folders.stream()
+                .filter(folder -> folders.stream()
+                        .noneMatch(other -> other != folder && other.contains(folder)))
+                .toList();
+    }
+
+    // 선택 폴더 서브트리 밖에 있는 게시글만
+    private List<PostLocationRow> outsideOf(List<PostLocationRow> posts, List<Folder> folders) {
+        return posts.stream()
+                .filter(post -> post.folderPath() == null || folders.stream()
+                        .noneMatch(folder -> post.folderPath().startsWith(folder.getPath())))
+                .toList();
     }
 }
@@ -0,0 +1,94 @@
+package com.untitles.domain.folder.service;
+
+import com.untitles.domain.folder.dto.query.FolderTreeRow;
+import com.untitles.domain.folder.dto.response.FolderResponseDTO;
+import com.untitles.domain.folder.dto.response.WorkspaceTreeResponseDTO;
+import com.untitles.domain.folder.entity.Folder;
+import com.untitles.domain.folder.repository.FolderRepository;
+import com.untitles.domain.post.dto.query.PostTreeRow;
+import com.untitles.domain.post.dto.response.PostSimpleDTO;
+import com.untitles.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 워크스페이스 트리 조립
+ * - 폴더/게시글을 평면 쿼리 2번으로 조회한 뒤 id Map 으로 부모-자식을 메모리에서 연결
+ * - 트리 깊이와 상관없이 쿼리 수가 고정 (FolderResponseDTO.from 재귀는 깊이마다 @BatchSize IN 쿼리 발생)
+ * - 게시글은 PostTreeRow 프로젝션으로만 조회 (content 를 읽지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkspaceTreeBuilder {
+
+    private final FolderRepository folderRepository;
+    private final PostRepository postRepository;
+
+    public WorkspaceTreeResponseDTO build(Long workspaceId) {
+        List<FolderTreeRow> folderRows = folderRepository.findTreeRowsByWorkspaceId(workspaceId);
+        List<PostTreeRow> postRows = postRepository.findTreeRowsByWorkspaceId(workspaceId);
+
+        Map<Long, FolderResponseDTO> folderMap = new HashMap<>();
+        List<FolderResponseDTO> rootFolders = link(folderRows, folderMap);
+
+        // 폴더가 없으면 루트 게시글
+        List<PostSimpleDTO> rootPosts = new ArrayList<>();
+        for (PostTreeRow row : postRows) {
+            PostSimpleDTO post = PostSimpleDTO.from(row);
+            FolderResponseDTO folder = row.folderId() != null ? folderMap.get(row.folderId()) : null;
+            if (folder != null) {
+                folder.getPosts().add(post);
+            } else {
+                rootPosts.add(post);
+            }
+        }
+
+        return WorkspaceTreeResponseDTO.of(rootFolders, rootPosts);
+    }
+
+    /**
+     * 폴더 하나의 서브트리 (하위 폴더 + 게시글 포함)
+     * - 경로 접두사로 서브트리만 조회
+     */
+    public FolderResponseDTO buildSubtree(Folder folder) {
+        List<FolderTreeRow> folderRows = folderRepository.findTreeRowsInSubtree(folder.getPath());
+        List<PostTreeRow> postRows = postRepository.findTreeRowsInFolderSubtree(folder.getPath());
+
+        Map<Long, FolderResponseDTO> folderMap = new HashMap<>();
+        link(folderRows, folderMap);
+
+        for (PostTreeRow row : postRows) {
+            FolderResponseDTO parent = folderMap.get(row.folderId());
+            if (parent != null) {
+                parent.getPosts().add(PostSimpleDTO.from(row));
+            }
+        }
+
+        FolderResponseDTO root = folderMap.get(folder.getFolderId());
+        return root != null ? root : FolderResponseDTO.from(folder);
+    }
+
+    // 부모-자식 연결, 부모를 찾지 못한 폴더(루트 또는 서브트리 최상단)를 반환
+    private List<FolderResponseDTO> link(List<FolderTreeRow> folderRows, Map<Long, FolderResponseDTO> folderMap) {
+        for (FolderTreeRow row : folderRows) {
+            folderMap.put(row.folderId(), FolderResponseDTO.from(row));
+        }
+
+        List<FolderResponseDTO> topFolders = new ArrayList<>();
+        for (FolderTreeRow row : folderRows) {
+            FolderResponseDTO node = folderMap.get(row.folderId());
+            FolderResponseDTO parent = row.parentId() != null ? folderMap.get(row.parentId()) : null;
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else {
+                topFolders.add(node);
+            }
+        }
+        return topFolders;
+    }
+}
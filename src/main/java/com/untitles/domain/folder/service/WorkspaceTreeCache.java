@@ -0,0 +1,79 @@
+package com.untitles.domain.folder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.untitles.domain.folder.dto.response.WorkspaceTreeResponseDTO;
+import com.untitles.domain.folder.event.WorkspaceTreeChangedEvent;
+import com.untitles.global.util.VersionedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 워크스페이스 트리 캐시
+ * - 변경이 생겨도 통째로 evict 하지 않고, 커밋 후 변경 내용을 캐시된 트리에 패치 + revision 증가
+ * - 패치할 수 없으면(캐시 revision 불일치, 노드 없음 등) 그때만 evict → 다음 조회에서 재조립
+ * - 조회 시 DB revision 과 캐시 revision 이 같을 때만 사용하므로, 노드 간 패치 경합이 있어도 오래된 트리를 내주지 않음
+ * - 재조립은 노드당 revision 별로 한 번만, TTL 직전에는 조기 갱신 (VersionedCache)
+ */
+@Slf4j
+@Component
+public class WorkspaceTreeCache {
+
+    private static final String CACHE_NAME = "workspaceTree";
+
+    private final VersionedCache cache;
+    private final ObjectMapper objectMapper;
+
+    public WorkspaceTreeCache(CacheManager cacheManager,
+                              ObjectMapper objectMapper,
+                              @Value("${app.cache.ttl:10m}") Duration ttl,
+                              @Value("${app.cache.early-refresh-beta:1.0}") double beta) {
+        this.cache = new VersionedCache(cacheManager.getCache(CACHE_NAME), ttl, beta);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 현재 revision 과 일치하는 캐시 트리, 없거나 다르면 loader 로 조립해서 저장
+     */
+    public WorkspaceTreeResponseDTO get(Long workspaceId, long revision, Supplier<WorkspaceTreeResponseDTO> loader) {
+        return cache.get(workspaceId, String.valueOf(revision), WorkspaceTreeResponseDTO.class, loader);
+    }
+
+    /**
+     * 커밋된 트리 변경을 캐시에 반영
+     * - 캐시가 바로 이전 revision 일 때만 패치 (그 사이 다른 변경이 있었다면 순서가 보장되지 않으므로 evict)
+     * - L1 캐시의 트리는 조회 요청들이 공유하므로 복사본에 패치한 뒤 저장
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTreeChanged(WorkspaceTreeChangedEvent event) {
+        try {
+            VersionedCache.Entry entry = cache.peek(event.workspaceId());
+            if (entry == null || !(entry.getValue() instanceof WorkspaceTreeResponseDTO cached)) {
+                return;
+            }
+            boolean patchable = cached.getRevision() != null && cached.getRevision() == event.revision() - 1;
+            WorkspaceTreeResponseDTO tree = patchable ? copy(cached) : null;
+            boolean patched = patchable && WorkspaceTreePatch.applyAll(tree, event.changes());
+            if (patched) {
+                tree.setRevision(event.revision());
+                cache.put(event.workspaceId(), String.valueOf(event.revision()), tree, entry.getLoadMillis());
+            } else {
+                cache.evict(event.workspaceId());
+            }
+        } catch (Exception e) {
+            // 커밋은 이미 끝났으므로 요청을 실패시키지 않음 (조회 시 revision 비교로 걸러짐)
+            log.warn("트리 캐시 패치 실패 workspaceId={}: {}", event.workspaceId(), e.getMessage());
+        }
+    }
+
+    private WorkspaceTreeResponseDTO copy(WorkspaceTreeResponseDTO tree) throws IOException {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(tree), WorkspaceTreeResponseDTO.class);
+    }
+}
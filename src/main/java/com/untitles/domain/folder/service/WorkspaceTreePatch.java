@@ -0,0 +1,257 @@
+package com.untitles.domain.folder.service;
+
+import com.untitles.domain.folder.dto.response.FolderResponseDTO;
+import com.untitles.domain.folder.dto.response.WorkspaceTreeResponseDTO;
+import com.untitles.domain.folder.entity.TreeNodeType;
+import com.untitles.domain.folder.event.TreeNodeChange;
+import com.untitles.domain.post.dto.response.PostSimpleDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 캐시된 워크스페이스 트리에 변경 내용을 직접 반영
+ * - 반영할 수 없으면(노드 없음, 중복 생성, 순환 이동) false → 호출 측에서 캐시를 버리고 재조립
+ * - 형제 순서는 WorkspaceTreeBuilder 조회 순서(정렬 키, id 오름차순)와 동일하게 유지
+ */
+final class WorkspaceTreePatch {
+
+    private static final Comparator<FolderResponseDTO> FOLDER_ORDER = Comparator
+            .comparing(FolderResponseDTO::getSortKey, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(FolderResponseDTO::getFolderId);
+
+    private static final Comparator<PostSimpleDTO> POST_ORDER = Comparator
+            .comparing(PostSimpleDTO::getSortKey, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PostSimpleDTO::getPostId);
+
+    private WorkspaceTreePatch() {
+    }
+
+    static boolean applyAll(WorkspaceTreeResponseDTO tree, List<TreeNodeChange> changes) {
+        for (TreeNodeChange change : changes) {
+            if (!apply(tree, change)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean apply(WorkspaceTreeResponseDTO tree, TreeNodeChange change) {
+        if (change.nodeType() == TreeNodeType.FOLDER) {
+            return switch (change.changeType()) {
+                case CREATED -> createFolder(tree, change);
+                case UPDATED -> updateFolder(tree, change);
+                case MOVED -> moveFolder(tree, change);
+                case DELETED -> removeFolder(tree.getFolders(), change.nodeId());
+            };
+        }
+        return switch (change.changeType()) {
+            case CREATED -> createPost(tree, change);
+            case UPDATED -> updatePost(tree, change);
+            case MOVED -> movePost(tree, change);
+            case DELETED -> removePost(tree, change.nodeId());
+        };
+    }
+
+    // ── 폴더 ──
+
+    private static boolean createFolder(WorkspaceTreeResponseDTO tree, TreeNodeChange change) {
+        if (findFolder(tree.getFolders(), change.nodeId()) != null) {
+            return false;
+        }
+        List<FolderResponseDTO> siblings = childFolders(tree, change.parentId());
+        if (siblings == null) {
+            return false;
+        }
+        insertFolder(siblings, FolderResponseDTO.builder()
+                .folderId(change.nodeId())
+                .name(change.name())
+                .parentId(change.parentId())
+                .sortKey(change.sortKey())
+                .createdAt(change.createdAt())
+                .updatedAt(change.updatedAt())
+                .children(new ArrayList<>())
+                .posts(new ArrayList<>())
+                .build());
+        return true;
+    }
+
+    private static boolean updateFolder(WorkspaceTreeResponseDTO tree, TreeNodeChange change) {
+        FolderResponseDTO node = findFolder(tree.getFolders(), change.nodeId());
+        if (node == null) {
+            return false;
+        }
+        node.setName(change.name());
+        node.setUpdatedAt(change.updatedAt());
+        return true;
+    }
+
+    private static boolean moveFolder(WorkspaceTreeResponseDTO tree, TreeNodeChange change) {
+        FolderResponseDTO node = findFolder(tree.getFolders(), change.nodeId());
+        if (node == null) {
+            return false;
+        }
+        // 새 부모가 자기 서브트리 안이면 반영 불가
+        if (change.parentId() != null && findFolder(List.of(node), change.parentId()) != null) {
+            return false;
+        }
+        List<FolderResponseDTO> siblings = childFolders(tree, change.parentId());
+        if (siblings == null) {
+            return false;
+        }
+        removeFolder(tree.getFolders(), change.nodeId());
+        node.setParentId(change.parentId());
+        node.setSortKey(change.sortKey());
+        node.setUpdatedAt(change.updatedAt());
+        insertFolder(siblings, node);
+        return true;
+    }
+
+    // ── 게시글 ──
+
+    private static boolean createPost(WorkspaceTreeResponseDTO tree, TreeNodeChange change) {
+        if (findPost(tree, change.nodeId()) != null) {
+            return false;
+        }
+        List<PostSimpleDTO> posts = postsOf(tree, change.parentId());
+        if (posts == null) {
+            return false;
+        }
+        insertPost(posts, PostSimpleDTO.builder()
+                .postId(change.nodeId())
+                .title(change.name())
+                .sortKey(change.sortKey())
+                .createdAt(change.createdAt())
+                .updatedAt(change.updatedAt())
+                .build());
+        return true;
+    }
+
+    private static boolean updatePost(WorkspaceTreeResponseDTO tree, TreeNodeChange change) {
+        PostSimpleDTO post = findPost(tree, change.nodeId());
+        if (post == null) {
+            return false;
+        }
+        post.setTitle(change.name());
+        post.setUpdatedAt(change.updatedAt());
+        return true;
+    }
+
+    private static boolean movePost(WorkspaceTreeResponseDTO tree, TreeNodeChange change) {
+        PostSimpleDTO post = findPost(tree, change.nodeId());
+        List<PostSimpleDTO> target = postsOf(tree, change.parentId());
+        if (post == null || target == null) {
+            return false;
+        }
+        removePost(tree, change.nodeId());
+        post.setSortKey(change.sortKey());
+        post.setUpdatedAt(change.updatedAt());
+        insertPost(target, post);
+        return true;
+    }
+
+    // ── 탐색/삽입/삭제 헬퍼 ──
+
+    private static List<FolderResponseDTO> childFolders(WorkspaceTreeResponseDTO tree, Long parentId) {
+        if (parentId == null) {
+            return tree.getFolders();
+        }
+        FolderResponseDTO parent = findFolder(tree.getFolders(), parentId);
+        return parent != null ? parent.getChildren() : null;
+    }
+
+    private static List<PostSimpleDTO> postsOf(WorkspaceTreeResponseDTO tree, Long folderId) {
+        if (folderId == null) {
+            return tree.getRootPosts();
+        }
+        FolderResponseDTO folder = findFolder(tree.getFolders(), folderId);
+        return folder != null ? folder.getPosts() : null;
+    }
+
+    private static FolderResponseDTO findFolder(List<FolderResponseDTO> folders, Long folderId) {
+        for (FolderResponseDTO folder : folders) {
+            if (folder.getFolderId().equals(folderId)) {
+                return folder;
+            }
+            FolderResponseDTO found = findFolder(folder.getChildren(), folderId);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static boolean removeFolder(List<FolderResponseDTO> folders, Long folderId) {
+        Iterator<FolderResponseDTO> it = folders.iterator();
+        while (it.hasNext()) {
+            FolderResponseDTO folder = it.next();
+            if (folder.getFolderId().equals(folderId)) {
+                it.remove();
+                return true;
+            }
+            if (removeFolder(folder.getChildren(), folderId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PostSimpleDTO findPost(WorkspaceTreeResponseDTO tree, Long postId) {
+        for (PostSimpleDTO post : tree.getRootPosts()) {
+            if (post.getPostId().equals(postId)) {
+                return post;
+            }
+        }
+        return findPost(tree.getFolders(), postId);
+    }
+
+    private static PostSimpleDTO findPost(List<FolderResponseDTO> folders, Long postId) {
+        for (FolderResponseDTO folder : folders) {
+            for (PostSimpleDTO post : folder.getPosts()) {
+                if (post.getPostId().equals(postId)) {
+                    return post;
+                }
+            }
+            PostSimpleDTO found = findPost(folder.getChildren(), postId);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static boolean removePost(WorkspaceTreeResponseDTO tree, Long postId) {
+        if (tree.getRootPosts().removeIf(p -> p.getPostId().equals(postId))) {
+            return true;
+        }
+        return removePost(tree.getFolders(), postId);
+    }
+
+    private static boolean removePost(List<FolderResponseDTO> folders, Long postId) {
+        for (FolderResponseDTO folder : folders) {
+            if (folder.getPosts().removeIf(p -> p.getPostId().equals(postId))
+                    || removePost(folder.getChildren(), postId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void insertFolder(List<FolderResponseDTO> siblings, FolderResponseDTO node) {
+        int index = 0;
+        while (index < siblings.size() && FOLDER_ORDER.compare(siblings.get(index), node) < 0) {
+            index++;
+        }
+        siblings.add(index, node);
+    }
+
+    private static void insertPost(List<PostSimpleDTO> posts, PostSimpleDTO post) {
+        int index = 0;
+        while (index < posts.size() && POST_ORDER.compare(posts.get(index), post) < 0) {
+            index++;
+        }
+        posts.add(index, post);
+    }
+}
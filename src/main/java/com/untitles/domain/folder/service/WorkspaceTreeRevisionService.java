@@ -0,0 +1,85 @@
+package com.untitles.domain.folder.service;
+
+import com.untitles.domain.folder.dto.response.TreeChangeResponseDTO;
+import com.untitles.domain.folder.dto.response.TreeChangesResponseDTO;
+import com.untitles.domain.folder.entity.TreeChange;
+import com.untitles.domain.folder.event.TreeNodeChange;
+import com.untitles.domain.folder.event.WorkspaceTreeChangedEvent;
+import com.untitles.domain.folder.repository.TreeChangeRepository;
+import com.untitles.domain.workspace.repository.WorkspaceRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WorkspaceTreeRevisionService {
+
+    // 워크스페이스별 변경 로그 보관 개수 (revision 기준)
+    private static final long CHANGE_LOG_RETENTION = 500;
+
+    private final WorkspaceRevisionRepository workspaceRevisionRepository;
+    private final TreeChangeRepository treeChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 트리 변경 기록
+     * - 변경 트랜잭션 안에서 호출: revision 을 1 올리고 변경 로그 저장 + 변경 이벤트 발행
+     * - 이벤트 리스너(캐시 패치 등)는 커밋 이후에만 동작
+     */
+    @Transactional
+    public long record(Long workspaceId, List<TreeNodeChange> changes) {
+        workspaceRevisionRepository.increaseTreeRevision(workspaceId);
+        long revision = getRevision(workspaceId);
+
+        treeChangeRepository.saveAll(changes.stream()
+                .map(change -> TreeChange.of(workspaceId, revision, change))
+                .toList());
+        treeChangeRepository.deleteUpToRevision(workspaceId, revision - CHANGE_LOG_RETENTION);
+
+        eventPublisher.publishEvent(new WorkspaceTreeChangedEvent(workspaceId, revision, changes));
+        return revision;
+    }
+
+    @Transactional
+    public long record(Long workspaceId, TreeNodeChange change) {
+        return record(workspaceId, List.of(change));
+    }
+
+    /**
+     * 현재 트리 revision (변경 이력이 없으면 0)
+     */
+    public long getRevision(Long workspaceId) {
+        return workspaceRevisionRepository.findTreeRevision(workspaceId).orElse(0L);
+    }
+
+    /**
+     * since 이후의 트리 변경 목록
+     * - since 다음 revision 부터 로그가 온전히 남아 있을 때만 증분 응답, 아니면 전체 재조회 안내
+     */
+    public TreeChangesResponseDTO getChangesSince(Long workspaceId, long since) {
+        long revision = getRevision(workspaceId);
+        if (since == revision) {
+            return TreeChangesResponseDTO.of(revision, List.of());
+        }
+        if (since < 0 || since > revision) {
+            return TreeChangesResponseDTO.resync(revision);
+        }
+
+        Long oldest = treeChangeRepository.findOldestRevision(workspaceId);
+        if (oldest == null || oldest > since + 1) {
+            return TreeChangesResponseDTO.resync(revision);
+        }
+
+        // 조회 도중 커밋된 변경은 다음 요청에서 받도록 현재 revision 까지만
+        List<TreeChangeResponseDTO> changes = treeChangeRepository
+                .findByWorkspaceIdAndRevisionBetweenOrderByRevisionAscChangeIdAsc(workspaceId, since + 1, revision).stream()
+                .map(TreeChangeResponseDTO::from)
+                .toList();
+        return TreeChangesResponseDTO.of(revision, changes);
+    }
+}
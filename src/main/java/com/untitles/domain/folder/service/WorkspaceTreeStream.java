@@ -0,0 +1,156 @@
+package com.untitles.domain.folder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.untitles.domain.folder.dto.response.TreeChangeResponseDTO;
+import com.untitles.domain.folder.dto.response.TreeChangesResponseDTO;
+import com.untitles.domain.folder.event.WorkspaceTreeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 워크스페이스 트리 변경 SSE 스트림
+ * - 커밋된 변경만 보냄 (AFTER_COMMIT) → 롤백된 변경은 구독자에게 가지 않음
+ * - 구독자는 서버마다 따로 붙어 있으므로 Redis pub/sub 으로 모든 서버에 전달한 뒤 각 서버가 자기 구독자에게 전송
+ * - SseEmitter 는 비동기 서블릿 응답이라 대기 중인 구독자가 Tomcat 워커 스레드를 잡지 않음
+ * - 이벤트 id 는 트리 revision → 재연결 시 Last-Event-ID 이후 변경을 로그에서 다시 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkspaceTreeStream implements MessageListener {
+
+    public static final String CHANNEL_PREFIX = "workspace-tree:";
+    private static final String EVENT_NAME = "tree-changes";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final WorkspaceTreeRevisionService workspaceTreeRevisionService;
+
+    // 끊긴 연결이 남지 않도록 제한 시간 후 종료 (클라이언트 EventSource 가 자동 재연결)
+    @Value("${app.tree-stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 등록
+     * - lastRevision 이 있으면 그 이후 변경을 먼저 보냄 (등록 후 조회하므로 사이에 커밋된 변경이 빠지지 않음, 중복은 클라이언트가 revision 으로 무시)
+     */
+    public SseEmitter subscribe(Long workspaceId, Long lastRevision) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        subscribers.compute(workspaceId, (id, emitters) -> {
+            Set<SseEmitter> set = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            set.add(emitter);
+            return set;
+        });
+
+        Runnable remove = () -> remove(workspaceId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        TreeChangesResponseDTO initial = lastRevision != null
+                ? workspaceTreeRevisionService.getChangesSince(workspaceId, lastRevision)
+                : TreeChangesResponseDTO.of(workspaceTreeRevisionService.getRevision(workspaceId), List.of());
+        send(workspaceId, emitter, initial);
+        return emitter;
+    }
+
+    /**
+     * 커밋된 트리 변경을 모든 서버로 전달
+     * - Redis 발행에 실패하면 최소한 이 서버 구독자에게는 직접 전송
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTreeChanged(WorkspaceTreeChangedEvent event) {
+        TreeChangesResponseDTO payload = TreeChangesResponseDTO.of(event.revision(), event.changes().stream()
+                .map(change -> TreeChangeResponseDTO.of(event.revision(), change))
+                .toList());
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + event.workspaceId(), objectMapper.writeValueAsString(payload));
+        } catch (Exception e) {
+            log.warn("트리 변경 발행 실패 workspaceId={}: {}", event.workspaceId(), e.getMessage());
+            broadcast(event.workspaceId(), payload);
+        }
+    }
+
+    /**
+     * Redis 채널 수신 → 이 서버의 구독자에게 전송
+     * - 느린 구독자가 Redis 수신 스레드(캐시 무효화와 공용)를 잡지 않도록 전용 스레드에서 (한 스레드라 revision 순서 유지)
+     */
+    @Async("treeStreamTaskExecutor")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            Long workspaceId = Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+            if (!subscribers.containsKey(workspaceId)) {
+                return;
+            }
+            broadcast(workspaceId, objectMapper.readValue(message.getBody(), TreeChangesResponseDTO.class));
+        } catch (Exception e) {
+            log.warn("트리 변경 수신 처리 실패 channel={}: {}", channel, e.getMessage());
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서 유휴 타임아웃 방지용 주석 이벤트, 끊긴 연결도 여기서 정리
+     */
+    @Scheduled(fixedDelayString = "${app.tree-stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.forEach((workspaceId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(workspaceId, emitter);
+                }
+            }
+        });
+    }
+
+    private void broadcast(Long workspaceId, TreeChangesResponseDTO payload) {
+        Set<SseEmitter> emitters = subscribers.get(workspaceId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(workspaceId, emitter, payload);
+        }
+    }
+
+    private void send(Long workspaceId, SseEmitter emitter, TreeChangesResponseDTO payload) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(payload.getRevision()))
+                    .name(EVENT_NAME)
+                    .data(payload));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 끊김
+            remove(workspaceId, emitter);
+        }
+    }
+
+    private void remove(Long workspaceId, SseEmitter emitter) {
+        subscribers.computeIfPresent(workspaceId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
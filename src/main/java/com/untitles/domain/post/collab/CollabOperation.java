@@ -0,0 +1,215 @@
+package com.untitles.domain.post.collab;
+
+import com.untitles.domain.post.dto.request.PostContentPatchRequestDTO.TextOperation;
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.exception.ErrorCode;
+import com.untitles.global.util.TextDelta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 편집 연산 (OT)
+ * - 문서 전체를 훑는 retain(양수) / insert(문자열) / delete(음수) 나열 (ot.js 와 같은 JSON 형식)
+ * - transform(a, b): 같은 문서에 동시에 만들어진 두 연산을 서로 뒤에 적용할 수 있게 변환
+ */
+public final class CollabOperation {
+
+    private final List<Object> ops = new ArrayList<>();
+    private int baseLength;
+    private int targetLength;
+
+    public int getBaseLength() {
+        return baseLength;
+    }
+
+    public List<Object> toJson() {
+        return List.copyOf(ops);
+    }
+
+    /**
+     * 클라이언트 JSON ([3, "abc", -2, ...]) → 연산 (형식이 틀리면 INVALID_INPUT)
+     */
+    public static CollabOperation fromJson(List<?> json) {
+        if (json == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        CollabOperation operation = new CollabOperation();
+        for (Object op : json) {
+            if (op instanceof String insert) {
+                operation.insert(insert);
+            } else if (op instanceof Number number && number.longValue() > 0 && number.longValue() <= Integer.MAX_VALUE) {
+                operation.retain(number.intValue());
+            } else if (op instanceof Number number && number.longValue() < 0 && number.longValue() >= -Integer.MAX_VALUE) {
+                operation.delete(-number.intValue());
+            } else {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+        }
+        return operation;
+    }
+
+    /**
+     * from → to 로 바꾸는 연산 (sanitize/병합 결과를 다른 편집자에게 보낼 때)
+     */
+    public static CollabOperation diff(String from, String to) {
+        CollabOperation operation = new CollabOperation();
+        String delta = TextDelta.diff(from, to);
+        if (delta == null) {
+            return operation.delete(from.length()).insert(to);
+        }
+        int i = 0;
+        while (i < delta.length()) {
+            char op = delta.charAt(i++);
+            int start = i;
+            while (i < delta.length() && Character.isDigit(delta.charAt(i))) {
+                i++;
+            }
+            int n = Integer.parseInt(delta.substring(start, i));
+            switch (op) {
+                case '=' -> operation.retain(n);
+                case '-' -> operation.delete(n);
+                default -> {
+                    i++; // ':'
+                    operation.insert(delta.substring(i, i + n));
+                    i += n;
+                }
+            }
+        }
+        return operation;
+    }
+
+    /**
+     * 같은 본문에 대한 동시 연산 a, b → [a', b'] (b 뒤에 a', a 뒤에 b' 를 적용하면 결과가 같음)
+     * - 같은 위치 삽입은 a 가 앞
+     */
+    public static CollabOperation[] transform(CollabOperation a, CollabOperation b) {
+        if (a.baseLength != b.baseLength) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        CollabOperation a1 = new CollabOperation();
+        CollabOperation b1 = new CollabOperation();
+        int i1 = 0;
+        int i2 = 0;
+        Object op1 = at(a.ops, i1++);
+        Object op2 = at(b.ops, i2++);
+
+        while (op1 != null || op2 != null) {
+            if (op1 instanceof String insert) {
+                a1.insert(insert);
+                b1.retain(insert.length());
+                op1 = at(a.ops, i1++);
+                continue;
+            }
+            if (op2 instanceof String insert) {
+                a1.retain(insert.length());
+                b1.insert(insert);
+                op2 = at(b.ops, i2++);
+                continue;
+            }
+            if (op1 == null || op2 == null) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+
+            int n1 = (Integer) op1;
+            int n2 = (Integer) op2;
+            int len1 = Math.abs(n1);
+            int len2 = Math.abs(n2);
+            int min = Math.min(len1, len2);
+
+            if (n1 > 0 && n2 > 0) {
+                a1.retain(min);
+                b1.retain(min);
+            } else if (n1 < 0 && n2 > 0) {
+                a1.delete(min);
+            } else if (n1 > 0) {
+                b1.delete(min);
+            }
+            // 둘 다 삭제면 이미 지워진 구간이므로 양쪽 모두 아무것도 하지 않음
+
+            op1 = len1 > min ? (Integer) (Integer.signum(n1) * (len1 - min)) : at(a.ops, i1++);
+            op2 = len2 > min ? (Integer) (Integer.signum(n2) * (len2 - min)) : at(b.ops, i2++);
+        }
+        return new CollabOperation[]{a1, b1};
+    }
+
+    /**
+     * PostContentPatch 로 적용할 수 있는 위치 기반 연산으로 변환 (앞 연산이 적용된 본문 기준 위치)
+     */
+    public List<TextOperation> toTextOperations() {
+        List<TextOperation> result = new ArrayList<>();
+        int position = 0;
+        for (Object op : ops) {
+            if (op instanceof String insert) {
+                result.add(TextOperation.builder().position(position).insert(insert).build());
+                position += insert.length();
+            } else {
+                int n = (Integer) op;
+                if (n > 0) {
+                    position += n;
+                } else {
+                    result.add(TextOperation.builder().position(position).deleteCount(-n).insert("").build());
+                }
+            }
+        }
+        return result;
+    }
+
+    public boolean isNoop() {
+        return ops.stream().allMatch(op -> op instanceof Integer n && n > 0);
+    }
+
+    private CollabOperation retain(int n) {
+        if (n == 0) {
+            return this;
+        }
+        baseLength += n;
+        targetLength += n;
+        int last = ops.size() - 1;
+        if (last >= 0 && ops.get(last) instanceof Integer prev && prev > 0) {
+            ops.set(last, prev + n);
+        } else {
+            ops.add(n);
+        }
+        return this;
+    }
+
+    private CollabOperation insert(String s) {
+        if (s.isEmpty()) {
+            return this;
+        }
+        targetLength += s.length();
+        int last = ops.size() - 1;
+        if (last >= 0 && ops.get(last) instanceof String prev) {
+            ops.set(last, prev + s);
+        } else if (last >= 0 && ops.get(last) instanceof Integer prev && prev < 0) {
+            // 삽입은 항상 삭제 앞에 (같은 연산의 표현을 하나로 맞춤)
+            if (last > 0 && ops.get(last - 1) instanceof String prevInsert) {
+                ops.set(last - 1, prevInsert + s);
+            } else {
+                ops.add(last, s);
+            }
+        } else {
+            ops.add(s);
+        }
+        return this;
+    }
+
+    private CollabOperation delete(int n) {
+        if (n == 0) {
+            return this;
+        }
+        baseLength += n;
+        int last = ops.size() - 1;
+        if (last >= 0 && ops.get(last) instanceof Integer prev && prev < 0) {
+            ops.set(last, prev - n);
+        } else {
+            ops.add(-n);
+        }
+        return this;
+    }
+
+    private static Object at(List<Object> ops, int index) {
+        return index < ops.size() ? ops.get(index) : null;
+    }
+}
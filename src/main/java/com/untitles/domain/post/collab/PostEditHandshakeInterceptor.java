@@ -0,0 +1,103 @@
+package com.untitles.domain.post.collab;
+
+import com.untitles.domain.post.repository.PostRepository;
+import com.untitles.domain.post.service.PostEditTicketService;
+import com.untitles.domain.user.entity.Users;
+import com.untitles.domain.user.repository.UserRepository;
+import com.untitles.domain.workspace.entity.WorkspaceMember;
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.jwt.JwtProvider;
+import com.untitles.global.util.WorkspaceMemberHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.Map;
+
+/**
+ * 실시간 편집 접속 인증
+ * - Authorization 헤더의 access token, 또는 브라우저용 1회 티켓 ?ticket= (token 은 URL 에 넣지 않음 - 접근 로그에 남음)
+ * - 워크스페이스 멤버 + 쓰기 권한이 있고 게시글이 그 워크스페이스에 있을 때만 연결
+ * - 다른 서버가 편집 세션을 가진 게시글이면 409 (클라이언트가 재시도)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostEditHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String PATH = "/ws/workspaces/{workspaceId}/posts/{postId}/edit";
+    static final String WORKSPACE_ID = "workspaceId";
+    static final String POST_ID = "postId";
+    static final String EDITOR = "editor";
+
+    private static final UriTemplate PATH_TEMPLATE = new UriTemplate(PATH);
+
+    private final JwtProvider jwtProvider;
+    private final WorkspaceMemberHelper workspaceMemberHelper;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostEditTicketService postEditTicketService;
+    private final PostEditOwnership postEditOwnership;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Map<String, String> variables = PATH_TEMPLATE.match(request.getURI().getPath());
+        try {
+            Long workspaceId = Long.valueOf(variables.get(WORKSPACE_ID));
+            Long postId = Long.valueOf(variables.get(POST_ID));
+
+            Long userId = resolveUserId(request, workspaceId, postId);
+            if (userId == null) {
+                response.setStatusCode(HttpStatus.UNAUTHORIZED);
+                return false;
+            }
+            WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+            workspaceMemberHelper.checkWritePermission(member);
+            if (!postRepository.existsByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)) {
+                response.setStatusCode(HttpStatus.NOT_FOUND);
+                return false;
+            }
+            if (!postEditOwnership.claim(postId)) {
+                response.setStatusCode(HttpStatus.CONFLICT);
+                return false;
+            }
+
+            String nickname = userRepository.findById(userId).map(Users::getNickname).orElse(null);
+            attributes.put(WORKSPACE_ID, workspaceId);
+            attributes.put(POST_ID, postId);
+            attributes.put(EDITOR, new PostEditor(userId, nickname));
+            return true;
+        } catch (BusinessException e) {
+            response.setStatusCode(e.getErrorCode().getStatus());
+            return false;
+        } catch (NumberFormatException | NullPointerException e) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private Long resolveUserId(ServerHttpRequest request, Long workspaceId, Long postId) {
+        String bearerToken = request.getHeaders().getFirst("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            String token = bearerToken.substring(7);
+            return jwtProvider.validateToken(token) ? jwtProvider.getUserId(token) : null;
+        }
+        String ticket = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("ticket");
+        if (!StringUtils.hasText(ticket)) {
+            return null;
+        }
+        return postEditTicketService.consume(ticket, workspaceId, postId).orElse(null);
+    }
+}
@@ -0,0 +1,59 @@
+package com.untitles.domain.post.collab;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * 실시간 편집 메시지 (클라이언트 ↔ 서버 공용)
+ * - op: 클라이언트 → revision 기준 연산, 서버 → 적용된 revision 과 (변환된) 연산
+ * - ack: 보낸 연산이 revision 으로 적용됨 (ops 가 있으면 sanitize 로 그 연산으로 바뀌어 적용됨)
+ * - presence: 커서/선택 영역 (서버는 그대로 전달), join/leave: 편집자 입장/퇴장
+ * - resync: 저장 충돌로 서버 본문이 DB 본문으로 바뀜 → 클라이언트는 content/revision 으로 다시 시작
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PostEditMessage(
+        String type,
+        Long revision,
+        Long userId,
+        String nickname,
+        List<Object> ops,
+        String content,
+        JsonNode cursor,
+        List<PostEditor> editors,
+        String code
+) {
+    public static PostEditMessage init(long revision, String content, List<PostEditor> editors) {
+        return new PostEditMessage("init", revision, null, null, null, content, null, editors, null);
+    }
+
+    public static PostEditMessage op(long revision, Long userId, CollabOperation operation) {
+        return new PostEditMessage("op", revision, userId, null, operation.toJson(), null, null, null, null);
+    }
+
+    public static PostEditMessage ack(long revision, CollabOperation replacedWith) {
+        return new PostEditMessage("ack", revision, null, null,
+                replacedWith != null ? replacedWith.toJson() : null, null, null, null, null);
+    }
+
+    public static PostEditMessage presence(PostEditor editor, JsonNode cursor) {
+        return new PostEditMessage("presence", null, editor.userId(), editor.nickname(), null, null, cursor, null, null);
+    }
+
+    public static PostEditMessage join(PostEditor editor) {
+        return new PostEditMessage("join", null, editor.userId(), editor.nickname(), null, null, null, null, null);
+    }
+
+    public static PostEditMessage leave(PostEditor editor) {
+        return new PostEditMessage("leave", null, editor.userId(), editor.nickname(), null, null, null, null, null);
+    }
+
+    public static PostEditMessage resync(long revision, String content, String code) {
+        return new PostEditMessage("resync", revision, null, null, null, content, null, null, code);
+    }
+
+    public static PostEditMessage error(String code) {
+        return new PostEditMessage("error", null, null, null, null, null, null, null, code);
+    }
+}
@@ -0,0 +1,83 @@
+package com.untitles.domain.post.collab;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게시글 편집 세션을 가진 서버 (Redis)
+ * - 편집 상태가 서버 메모리에 있으므로 한 게시글의 편집 세션은 한 서버에만 있어야 함
+ * - 처음 접속받은 서버가 소유권을 잡고, 세션이 있는 동안 저장 주기마다 TTL 연장, 세션이 닫히면 반납
+ * - 다른 서버가 가진 게시글 접속은 핸드셰이크에서 409 (서버가 죽으면 TTL 후 다른 서버가 가져감)
+ */
+@Slf4j
+@Component
+public class PostEditOwnership {
+
+    private static final String KEY_PREFIX = "post-edit-node:";
+
+    // 내 값이면 TTL 연장 / 삭제
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public PostEditOwnership(StringRedisTemplate redisTemplate,
+                             @Value("${app.collab.owner-ttl-ms:30000}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMillis(ttlMs);
+    }
+
+    /**
+     * @return 이 서버가 소유했거나 새로 잡았으면 true
+     * - Redis 장애 시에는 접속을 막지 않음 (충돌은 저장 시 VERSION_CONFLICT 로 드러남)
+     */
+    boolean claim(Long postId) {
+        try {
+            String key = KEY_PREFIX + postId;
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, nodeId, ttl))) {
+                return true;
+            }
+            return renew(key);
+        } catch (Exception e) {
+            log.warn("편집 소유권 확인 실패 postId={}: {}", postId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 세션이 있는 동안 TTL 연장 - 그 사이 다른 서버가 가져갔으면 경고만 남김
+     */
+    void keep(Long postId) {
+        if (!claim(postId)) {
+            log.warn("다른 서버가 편집 중인 게시글 postId={}", postId);
+        }
+    }
+
+    void release(Long postId) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(KEY_PREFIX + postId), nodeId);
+        } catch (Exception e) {
+            // 못 지워도 TTL 후 만료
+            log.warn("편집 소유권 반납 실패 postId={}: {}", postId, e.getMessage());
+        }
+    }
+
+    private boolean renew(String key) {
+        Long renewed = redisTemplate.execute(RENEW, List.of(key), nodeId, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+}
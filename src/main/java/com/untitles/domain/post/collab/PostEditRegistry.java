@@ -0,0 +1,155 @@
+package com.untitles.domain.post.collab;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.untitles.domain.post.dto.query.PostContentState;
+import com.untitles.domain.post.service.PostContentSanitizer;
+import com.untitles.domain.post.service.PostContentWriter;
+import com.untitles.domain.post.service.PostService;
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글별 실시간 편집 세션 관리
+ * - 상태가 이 서버 메모리에 있으므로 게시글 하나의 세션은 한 서버에만 (PostEditOwnership 으로 소유권 유지)
+ * - 키 입력마다 저장하지 않고 flush-interval 마다 바뀐 세션만 저장, 마지막 편집자가 나갈 때도 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostEditRegistry {
+
+    // 닫힌 세션의 마지막 저장을 기다리는 최대 시간 (넘으면 정리를 기다리지 않고 새 세션 생성)
+    private static final long RELEASE_WAIT_MS = 5000;
+    // sanitize 하는 사이 다른 연산이 계속 끼어들 때 다시 변환하는 최대 횟수
+    private static final int MAX_SANITIZE_ATTEMPTS = 5;
+
+    private final PostService postService;
+    private final PostContentWriter postContentWriter;
+    private final PostEditOwnership postEditOwnership;
+    private final PostContentSanitizer postContentSanitizer;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, PostEditSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 편집 세션 참가 (없으면 DB 본문으로 생성)
+     * - DB 조회/저장은 map lock 밖에서, 참가/닫힘 판단은 세션 lock 안에서
+     * - 마지막 편집자가 막 나가 닫힌 세션이면 그 세션의 마지막 저장이 끝날 때까지 기다렸다가 새 세션으로 다시 시도
+     */
+    PostEditSession join(Long workspaceId, Long postId, WebSocketSession socket, PostEditor editor) {
+        while (true) {
+            PostEditSession session = sessions.get(postId);
+            if (session == null) {
+                PostEditSession created = new PostEditSession(
+                        workspaceId, postId, postService.getContentState(workspaceId, postId), objectMapper);
+                session = sessions.putIfAbsent(postId, created);
+                if (session == null) {
+                    session = created;
+                }
+            }
+            if (session.join(socket, editor)) {
+                return session;
+            }
+            session.awaitRelease(RELEASE_WAIT_MS);
+            sessions.remove(postId, session);
+        }
+    }
+
+    /**
+     * 편집 세션 나가기 - 마지막 편집자면 세션을 닫고 저장 후 제거 (map lock 밖에서)
+     */
+    void leave(PostEditSession session, WebSocketSession socket) {
+        if (!session.leave(socket)) {
+            return;
+        }
+        try {
+            flush(session);
+        } finally {
+            sessions.remove(session.getPostId(), session);
+            session.release();
+            // 그 사이 이 서버에 새 세션이 생겼으면 소유권 유지
+            if (!sessions.containsKey(session.getPostId())) {
+                postEditOwnership.release(session.getPostId());
+            }
+        }
+    }
+
+    /**
+     * 편집자 연산 적용
+     * - 태그를 건드린 연산은 세션 lock 밖에서 PostContentSanitizer 로 sanitize (다른 편집자 연산/저장을 막지 않음)
+     * - sanitize 하는 사이 다른 연산이 적용됐으면 그 revision 기준으로 다시 변환해 재시도
+     */
+    void receive(PostEditSession session, WebSocketSession socket, long baseRevision, CollabOperation operation) {
+        for (int attempt = 0; attempt < MAX_SANITIZE_ATTEMPTS; attempt++) {
+            PostEditSession.Pending pending = session.receive(socket, baseRevision, operation);
+            if (pending == null) {
+                return;
+            }
+            String sanitized = postContentSanitizer.sanitize(pending.content());
+            if (session.commit(socket, pending, sanitized)) {
+                return;
+            }
+            baseRevision = pending.revision();
+            operation = pending.operation();
+        }
+        // 계속 밀리면 클라이언트가 다시 접속해 최신 본문부터 시작
+        throw new BusinessException(ErrorCode.VERSION_CONFLICT);
+    }
+
+    @Scheduled(fixedDelayString = "${app.collab.flush-interval-ms:3000}")
+    public void flushAll() {
+        sessions.values().forEach(session -> {
+            postEditOwnership.keep(session.getPostId());
+            flush(session);
+        });
+    }
+
+    private void flush(PostEditSession session) {
+        PostEditSession.Snapshot snapshot = session.takeDirty();
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            PostContentState saved = postContentWriter.saveCollabContent(session.getWorkspaceId(), session.getPostId(),
+                    snapshot.editorId(), snapshot.baseContent(), snapshot.baseContentVersion(), snapshot.content());
+            session.saved(snapshot, saved);
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.VERSION_CONFLICT) {
+                resync(session);
+                return;
+            }
+            if (e.getErrorCode() == ErrorCode.POST_NOT_FOUND) {
+                // 편집 중 게시글이 삭제됨 - 다시 저장하지 않음
+                log.info("편집 세션 저장 건너뜀 postId={}: {}", session.getPostId(), e.getMessage());
+                return;
+            }
+            // sanitize 대기열이 가득 참 등 - 다음 주기에 다시 저장
+            log.warn("편집 세션 저장 실패 postId={}: {}", session.getPostId(), e.getMessage());
+            session.failed();
+        } catch (Exception e) {
+            log.warn("편집 세션 저장 실패 postId={}: {}", session.getPostId(), e.getMessage());
+            session.failed();
+        }
+    }
+
+    /**
+     * REST 수정과 겹쳐 병합할 수 없음 - 편집 세션 내용으로 덮어쓰지 않고 DB 본문으로 다시 맞춤
+     */
+    private void resync(PostEditSession session) {
+        log.info("편집 세션 저장 충돌, DB 본문으로 다시 맞춤 postId={}", session.getPostId());
+        try {
+            session.resync(postService.getContentState(session.getWorkspaceId(), session.getPostId()));
+        } catch (Exception e) {
+            log.warn("편집 세션 다시 맞춤 실패 postId={}: {}", session.getPostId(), e.getMessage());
+            session.failed();
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.untitles.domain.post.collab;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.untitles.domain.post.dto.query.PostContentState;
+import com.untitles.domain.post.service.PostContentPatch;
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 하나의 실시간 편집 상태 (이 서버 메모리)
+ * - 연산은 revision 순서로 하나씩 적용, 클라이언트가 보낸 base revision 이후 연산들에 대해 transform
+ * - 태그를 건드린 연산은 lock 밖에서 sanitize 한 뒤 적용 (그 사이 revision 이 바뀌면 다시 변환)
+ * - 메시지 전송도 같은 lock 안에서 하므로 모든 편집자가 같은 순서로 연산을 받음
+ * - DB 저장은 PostEditRegistry 가 주기적으로 (dirty 일 때만)
+ */
+@Slf4j
+class PostEditSession {
+
+    // transform 용으로 보관하는 최근 연산 수 (이보다 오래된 revision 기준 연산은 재접속 필요)
+    private static final int HISTORY_LIMIT = 500;
+
+    // PostCreateRequestDTO / PostUpdateRequestDTO 의 content 최대 길이와 동일
+    private static final int MAX_CONTENT_LENGTH = 50000;
+
+    @Getter
+    private final Long workspaceId;
+    @Getter
+    private final Long postId;
+    private final ObjectMapper objectMapper;
+
+    private String content;
+    private long revision;
+    private final Deque<CollabOperation> history = new ArrayDeque<>();
+    private final Map<String, Participant> participants = new LinkedHashMap<>();
+
+    // 마지막으로 DB 에 저장된 상태 (다음 저장 때 REST 수정과 병합할 base)
+    private String savedContent;
+    private Long savedContentVersion;
+    private boolean dirty;
+    private Long lastEditorId;
+
+    // 마지막 편집자가 나가면 닫힘 - 이후 join 은 거절되고 새 세션을 만들어야 함
+    private boolean closed;
+    // 닫힌 세션의 마지막 저장 + 레지스트리에서 제거까지 끝남 (새 세션은 그 뒤 DB 에서 본문을 읽어야 함)
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    private record Participant(WebSocketSession socket, PostEditor editor) {
+    }
+
+    record Applied(CollabOperation operation, boolean replaced) {
+    }
+
+    // 현재 revision 으로 변환한 연산과 적용 결과 (아직 적용 전)
+    record Pending(long revision, CollabOperation operation, String content, boolean textOnly) {
+    }
+
+    // 저장할 시점의 상태
+    record Snapshot(long revision, String content, Long editorId, String baseContent, Long baseContentVersion) {
+    }
+
+    PostEditSession(Long workspaceId, Long postId, PostContentState state, ObjectMapper objectMapper) {
+        this.workspaceId = workspaceId;
+        this.postId = postId;
+        this.objectMapper = objectMapper;
+        this.content = state.content();
+        this.savedContent = state.content();
+        this.savedContentVersion = state.contentVersion();
+    }
+
+    /**
+     * @return 이미 닫힌 세션이면 false (참가하지 않음)
+     */
+    synchronized boolean join(WebSocketSession socket, PostEditor editor) {
+        if (closed) {
+            return false;
+        }
+        List<PostEditor> editors = participants.values().stream().map(Participant::editor).toList();
+        send(socket, PostEditMessage.init(revision, content, editors));
+        broadcast(PostEditMessage.join(editor), null);
+        participants.put(socket.getId(), new Participant(socket, editor));
+        return true;
+    }
+
+    /**
+     * @return 남은 편집자가 없어 세션이 닫혔으면 true (호출한 쪽이 마지막 저장 후 release)
+     */
+    synchronized boolean leave(WebSocketSession socket) {
+        Participant participant = participants.remove(socket.getId());
+        if (participant != null) {
+            broadcast(PostEditMessage.leave(participant.editor()), null);
+        }
+        if (closed || !participants.isEmpty()) {
+            return false;
+        }
+        closed = true;
+        return true;
+    }
+
+    void release() {
+        released.countDown();
+    }
+
+    /**
+     * 닫힌 세션이 정리될 때까지 대기 (마지막 저장이 끝난 뒤 새 세션을 만들도록)
+     */
+    void awaitRelease(long timeoutMs) {
+        try {
+            released.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        return participants.isEmpty();
+    }
+
+    /**
+     * 편집자 연산 수신
+     * @return 태그 밖 텍스트만 바뀌어 바로 적용했으면 null, 태그를 건드렸으면 적용하지 않은 결과
+     *         (호출한 쪽이 lock 밖에서 sanitize 후 commit)
+     */
+    synchronized Pending receive(WebSocketSession socket, long baseRevision, CollabOperation operation) {
+        Participant participant = participants.get(socket.getId());
+        if (participant == null) {
+            return null;
+        }
+        Pending pending = transform(baseRevision, operation);
+        if (!pending.textOnly()) {
+            return pending;
+        }
+        accept(participant, socket, pending, pending.content());
+        return null;
+    }
+
+    /**
+     * lock 밖에서 sanitize 한 결과 적용 (sanitize 로 달라졌으면 sanitize 된 본문으로 가는 연산으로 교체)
+     * @return 그 사이 다른 연산이 적용돼 다시 변환해야 하면 false
+     */
+    synchronized boolean commit(WebSocketSession socket, Pending pending, String sanitized) {
+        Participant participant = participants.get(socket.getId());
+        if (participant == null) {
+            return true;
+        }
+        if (pending.revision() != revision) {
+            return false;
+        }
+        accept(participant, socket, pending, sanitized);
+        return true;
+    }
+
+    synchronized void presence(WebSocketSession socket, JsonNode cursor) {
+        Participant participant = participants.get(socket.getId());
+        if (participant != null) {
+            broadcast(PostEditMessage.presence(participant.editor(), cursor), socket);
+        }
+    }
+
+    synchronized Snapshot takeDirty() {
+        if (!dirty) {
+            return null;
+        }
+        dirty = false;
+        return new Snapshot(revision, content, lastEditorId, savedContent, savedContentVersion);
+    }
+
+    synchronized void failed() {
+        dirty = true;
+    }
+
+    /**
+     * 저장 완료 - REST 수정과 병합돼 본문이 달라졌으면 서버 연산으로 편집자들에게 반영
+     */
+    synchronized void saved(Snapshot snapshot, PostContentState state) {
+        savedContent = state.content();
+        savedContentVersion = state.contentVersion();
+        if (state.content().equals(snapshot.content())) {
+            return;
+        }
+        try {
+            Pending pending = transform(snapshot.revision(), CollabOperation.diff(snapshot.content(), state.content()));
+            Applied applied = apply(pending, pending.content());
+            broadcast(PostEditMessage.op(revision, null, applied.operation()), null);
+            dirty = !content.equals(savedContent);
+        } catch (BusinessException e) {
+            // 그 사이 연산이 너무 많이 쌓여 변환할 수 없으면 다음 저장에서 편집 세션 내용으로 덮어씀
+            log.warn("편집 세션에 병합 결과 반영 실패 postId={}: {}", postId, e.getMessage());
+            dirty = true;
+        }
+    }
+
+    /**
+     * 저장 충돌 - 저장 못 한 편집 내용을 버리고 DB 본문으로 다시 시작
+     * - history 를 비우므로 이전 revision 기준으로 오는 연산은 VERSION_CONFLICT 로 거절됨
+     */
+    synchronized void resync(PostContentState state) {
+        content = state.content();
+        savedContent = state.content();
+        savedContentVersion = state.contentVersion();
+        revision++;
+        history.clear();
+        dirty = false;
+        broadcast(PostEditMessage.resync(revision, content, ErrorCode.VERSION_CONFLICT.name()), null);
+    }
+
+    private void accept(Participant participant, WebSocketSession socket, Pending pending, String next) {
+        Applied applied = apply(pending, next);
+        lastEditorId = participant.editor().userId();
+        send(socket, PostEditMessage.ack(revision, applied.replaced() ? applied.operation() : null));
+        broadcast(PostEditMessage.op(revision, lastEditorId, applied.operation()), socket);
+    }
+
+    // base revision 이후에 적용된 연산들 뒤로 변환하고 적용 결과 계산 (상태는 바꾸지 않음)
+    private Pending transform(long baseRevision, CollabOperation operation) {
+        long historyStart = revision - history.size();
+        if (baseRevision < historyStart || baseRevision > revision) {
+            throw new BusinessException(ErrorCode.VERSION_CONFLICT);
+        }
+
+        Iterator<CollabOperation> concurrent = history.iterator();
+        for (long r = historyStart; r < revision; r++) {
+            CollabOperation applied = concurrent.next();
+            if (r >= baseRevision) {
+                operation = CollabOperation.transform(operation, applied)[0];
+            }
+        }
+        if (operation.getBaseLength() != content.length()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        PostContentPatch.Result result = PostContentPatch.apply(content, operation.toTextOperations());
+        if (result.content().length() > MAX_CONTENT_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        return new Pending(revision, operation, result.content(), result.textOnly());
+    }
+
+    // 변환한 연산 적용 - next 가 변환 결과와 다르면(sanitize) next 로 가는 연산으로 교체
+    private Applied apply(Pending pending, String next) {
+        boolean replaced = !next.equals(pending.content());
+        CollabOperation applied = replaced ? CollabOperation.diff(content, next) : pending.operation();
+
+        content = next;
+        revision++;
+        history.addLast(applied);
+        if (history.size() > HISTORY_LIMIT) {
+            history.removeFirst();
+        }
+        dirty = true;
+        return new Applied(applied, replaced);
+    }
+
+    private void broadcast(PostEditMessage message, WebSocketSession except) {
+        for (Participant participant : participants.values()) {
+            if (except == null || !participant.socket().getId().equals(except.getId())) {
+                send(participant.socket(), message);
+            }
+        }
+    }
+
+    private void send(WebSocketSession socket, PostEditMessage message) {
+        try {
+            socket.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+        } catch (Exception e) {
+            // 느린 연결은 버퍼 초과로 닫힘 → afterConnectionClosed 에서 정리
+            log.debug("편집 메시지 전송 실패 session={}: {}", socket.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.untitles.domain.post.collab;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 실시간 편집 WebSocket
+ * - 접속 시 init(본문 + revision), 이후 op / presence 메시지 주고받음 (PostEditMessage)
+ * - 연산 오류는 연결을 끊지 않고 error 메시지로 알림 (VERSION_CONFLICT 면 클라이언트가 재접속해 init 부터 다시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostEditWebSocketHandler extends TextWebSocketHandler {
+
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_LIMIT = 512 * 1024;
+
+    private final PostEditRegistry postEditRegistry;
+    private final ObjectMapper objectMapper;
+
+    // 원본 세션 id → 전송용(스레드 안전) 세션
+    private final Map<String, WebSocketSession> sockets = new ConcurrentHashMap<>();
+    private final Map<String, PostEditSession> joined = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        WebSocketSession socket = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT);
+        sockets.put(session.getId(), socket);
+        Long workspaceId = (Long) session.getAttributes().get(PostEditHandshakeInterceptor.WORKSPACE_ID);
+        Long postId = (Long) session.getAttributes().get(PostEditHandshakeInterceptor.POST_ID);
+        PostEditor editor = (PostEditor) session.getAttributes().get(PostEditHandshakeInterceptor.EDITOR);
+        joined.put(session.getId(), postEditRegistry.join(workspaceId, postId, socket, editor));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        PostEditSession editSession = joined.get(session.getId());
+        WebSocketSession socket = sockets.get(session.getId());
+        if (editSession == null || socket == null) {
+            return;
+        }
+        try {
+            PostEditMessage received = objectMapper.readValue(message.getPayload(), PostEditMessage.class);
+            switch (received.type() != null ? received.type() : "") {
+                case "op" -> {
+                    if (received.revision() == null) {
+                        throw new BusinessException(ErrorCode.INVALID_INPUT);
+                    }
+                    postEditRegistry.receive(editSession, socket, received.revision(),
+                            CollabOperation.fromJson(received.ops()));
+                }
+                case "presence" -> editSession.presence(socket, received.cursor());
+                default -> throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+        } catch (BusinessException e) {
+            sendError(socket, e.getErrorCode().name());
+        } catch (Exception e) {
+            log.debug("편집 메시지 처리 실패 session={}: {}", session.getId(), e.getMessage());
+            sendError(socket, ErrorCode.INVALID_INPUT.name());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        WebSocketSession socket = sockets.remove(session.getId());
+        PostEditSession editSession = joined.remove(session.getId());
+        if (editSession != null && socket != null) {
+            postEditRegistry.leave(editSession, socket);
+        }
+    }
+
+    private void sendError(WebSocketSession socket, String code) throws Exception {
+        socket.sendMessage(new TextMessage(objectMapper.writeValueAsString(PostEditMessage.error(code))));
+    }
+}
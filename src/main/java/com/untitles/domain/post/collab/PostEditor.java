@@ -0,0 +1,10 @@
+package com.untitles.domain.post.collab;
+
+/*
+ * 편집 세션에 접속한 사용자
+ * */
+public record PostEditor(
+        Long userId,
+        String nickname
+) {
+}
@@ -1,9 +1,18 @@
 package com.untitles.domain.post.controller;
 
+import com.untitles.domain.folder.dto.request.ReorderRequestDTO;
 import com.untitles.domain.post.dto.request.MovePostRequestDTO;
+import com.untitles.domain.post.dto.request.PostContentPatchRequestDTO;
 import com.untitles.domain.post.dto.request.PostCreateRequestDTO;
 import com.untitles.domain.post.dto.request.PostUpdateRequestDTO;
+import com.untitles.domain.post.dto.response.PostContentPatchResponseDTO;
+import com.untitles.domain.post.dto.response.PostEditTicketResponseDTO;
 import com.untitles.domain.post.dto.response.PostResponseDTO;
+import com.untitles.domain.post.dto.response.PostRevisionResponseDTO;
+import com.untitles.domain.post.service.PostContentSanitizer;
+import com.untitles.domain.post.service.PostContentWriter;
+import com.untitles.domain.post.service.PostEditTicketService;
+import com.untitles.domain.post.service.PostRevisionService;
 import com.untitles.domain.post.service.PostService;
 import com.untitles.global.security.CustomUserDetails;
 import jakarta.validation.Valid;
@@ -11,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,14 +30,24 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostRevisionService postRevisionService;
+    private final PostContentSanitizer postContentSanitizer;
+    private final PostContentWriter postContentWriter;
+    private final PostEditTicketService postEditTicketService;
 
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponseDTO> getPost(
         @AuthenticationPrincipal CustomUserDetails userDetails,
         @PathVariable Long workspaceId,
-        @PathVariable Long postId
+        @PathVariable Long postId,
+        WebRequest webRequest
     ){
-        return ResponseEntity.ok(postService.getPost(userDetails.getUserId(),workspaceId,postId));
+        // version 이 같으면 DTO 를 만들지 않고 304
+        String eTag = postService.getPostETag(userDetails.getUserId(), workspaceId, postId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(postService.getPost(userDetails.getUserId(),workspaceId,postId));
     }
 
     @PostMapping
@@ -35,7 +55,10 @@ public class PostController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long workspaceId,
             @RequestBody @Valid PostCreateRequestDTO request) {
-        return ResponseEntity.ok(postService.createPost(userDetails.getUserId(), workspaceId, request));
+        // 권한 확인 → 본문 sanitize (트랜잭션/DB 커넥션 밖에서) → 저장
+        postService.checkCreatable(userDetails.getUserId(), workspaceId);
+        String content = postContentSanitizer.sanitize(request.getContent());
+        return ResponseEntity.ok(postService.createPost(userDetails.getUserId(), workspaceId, request, content));
     }
 
     @PutMapping("/{postId}")
@@ -44,7 +67,42 @@ public class PostController {
             @PathVariable Long workspaceId,
             @PathVariable Long postId,
             @RequestBody @Valid PostUpdateRequestDTO request) {
-        return ResponseEntity.ok(postService.updatePost(userDetails.getUserId(), workspaceId, postId, request));
+        // 권한/저장된 본문 해시 확인 → 바뀐 본문만 sanitize (트랜잭션 밖) → 저장
+        return ResponseEntity.ok(postContentWriter.updatePost(userDetails.getUserId(), workspaceId, postId, request));
+    }
+
+    @PatchMapping("/{postId}/content")
+    public ResponseEntity<PostContentPatchResponseDTO> patchContent(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @PathVariable Long postId,
+            @RequestBody @Valid PostContentPatchRequestDTO request) {
+        return ResponseEntity.ok(postContentWriter.patchContent(userDetails.getUserId(), workspaceId, postId, request));
+    }
+
+    @PostMapping("/{postId}/edit-ticket")
+    public ResponseEntity<PostEditTicketResponseDTO> issueEditTicket(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @PathVariable Long postId) {
+        return ResponseEntity.ok(postEditTicketService.issue(userDetails.getUserId(), workspaceId, postId));
+    }
+
+    @GetMapping("/{postId}/revisions")
+    public ResponseEntity<List<PostRevisionResponseDTO>> getRevisions(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @PathVariable Long postId) {
+        return ResponseEntity.ok(postRevisionService.getRevisions(userDetails.getUserId(), workspaceId, postId));
+    }
+
+    @GetMapping("/{postId}/revisions/{version}")
+    public ResponseEntity<PostRevisionResponseDTO> getRevision(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @PathVariable Long postId,
+            @PathVariable Long version) {
+        return ResponseEntity.ok(postRevisionService.getRevision(userDetails.getUserId(), workspaceId, postId, version));
     }
 
     @DeleteMapping("/{postId}")
@@ -65,4 +123,13 @@ public class PostController {
         return ResponseEntity.ok(postService.movePost(
                 userDetails.getUserId(), workspaceId, postId, request.getFolderId()));
     }
+
+    @PutMapping("/{postId}/reorder")
+    public ResponseEntity<PostResponseDTO> reorderPost(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long workspaceId,
+            @PathVariable Long postId,
+            @RequestBody ReorderRequestDTO request) {
+        return ResponseEntity.ok(postService.reorderPost(userDetails.getUserId(), workspaceId, postId, request));
+    }
 }
\ No newline at end of file
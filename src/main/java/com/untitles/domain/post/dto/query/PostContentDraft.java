@@ -0,0 +1,19 @@
+package com.untitles.domain.post.dto.query;
+
+/*
+ * 저장 준비가 끝난 제목/본문 (sanitize 는 트랜잭션 밖에서 PostContentWriter 가)
+ * - contentVersion: 준비할 때 읽은 본문 version (저장할 때 달라졌으면 다시 준비)
+ * - clientContent: 클라이언트(편집 세션)가 만든 본문 - 저장 본문과 다르면 응답으로 알려줌
+ * - sanitize: 태그가 바뀌었거나 병합으로 섞여 저장 전에 sanitize 가 필요함
+ * */
+public record PostContentDraft(
+        Long contentVersion,
+        String title,
+        String content,
+        String clientContent,
+        boolean sanitize
+) {
+    public PostContentDraft sanitized(String sanitizedContent) {
+        return new PostContentDraft(contentVersion, title, sanitizedContent, clientContent, false);
+    }
+}
@@ -0,0 +1,10 @@
+package com.untitles.domain.post.dto.query;
+
+/*
+ * 실시간 편집 세션용 본문 상태 (본문 + 제목/본문이 마지막으로 바뀐 version)
+ * */
+public record PostContentState(
+        String content,
+        Long contentVersion
+) {
+}
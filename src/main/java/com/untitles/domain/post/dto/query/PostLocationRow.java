@@ -0,0 +1,16 @@
+package com.untitles.domain.post.dto.query;
+
+import java.time.LocalDateTime;
+
+/*
+ * 일괄 이동/삭제용 게시글 행 (소속 폴더 경로 포함)
+ * */
+public record PostLocationRow(
+        Long postId,
+        Long folderId,
+        String title,
+        String sortKey,
+        LocalDateTime createdAt,
+        String folderPath   // 루트 게시글이면 null
+) {
+}
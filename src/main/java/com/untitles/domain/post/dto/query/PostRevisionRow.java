@@ -0,0 +1,15 @@
+package com.untitles.domain.post.dto.query;
+
+import java.time.LocalDateTime;
+
+/*
+ * 이력 목록용 행 (본문/변경분은 읽지 않음)
+ * */
+public record PostRevisionRow(
+        Long version,
+        String title,
+        Long editorId,
+        String editorNickname,
+        LocalDateTime createdAt
+) {
+}
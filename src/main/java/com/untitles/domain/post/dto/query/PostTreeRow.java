@@ -0,0 +1,16 @@
+package com.untitles.domain.post.dto.query;
+
+import java.time.LocalDateTime;
+
+/*
+ * 트리 조립용 게시글 행 (content 없이 트리에 필요한 컬럼만 조회)
+ * */
+public record PostTreeRow(
+        Long postId,
+        Long folderId,
+        String title,
+        String sortKey,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.untitles.domain.post.dto.query;
+
+import java.time.LocalDateTime;
+
+/*
+ * 공개 트리 조립용 게시글 행 (content 없이 공개 판단 플래그 포함)
+ * */
+public record PostVisibilityRow(
+        Long postId,
+        Long folderId,
+        String title,
+        String sortKey,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Boolean isPublic,
+        Boolean isExcluded
+) {
+}
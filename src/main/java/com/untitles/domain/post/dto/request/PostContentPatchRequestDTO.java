@@ -0,0 +1,46 @@
+package com.untitles.domain.post.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 본문 부분 수정 (자동 저장용)
+ * - baseVersion 은 클라이언트가 마지막으로 받은 게시글 version
+ * - operations 는 순서대로 적용 (각 position 은 앞 연산이 적용된 본문 기준)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostContentPatchRequestDTO {
+
+    @NotNull
+    private Long baseVersion;
+
+    @NotEmpty
+    @Size(max = 500, message = "한 번에 500개까지 수정할 수 있습니다.")
+    private List<@Valid @NotNull TextOperation> operations;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TextOperation {
+        @NotNull
+        @Min(0)
+        private Integer position;
+        @Min(0)
+        private int deleteCount;
+        @Size(max = 50000)
+        private String insert;
+    }
+}
@@ -0,0 +1,34 @@
+package com.untitles.domain.post.dto.response;
+
+import com.untitles.domain.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본문 부분 수정 결과
+ * - content 는 sanitize 로 본문이 달라졌을 때만 내려줌 (null 이면 클라이언트 본문 그대로 사용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostContentPatchResponseDTO {
+
+    private Long postId;
+    private Long version;
+    private LocalDateTime updatedAt;
+    private String content;
+
+    public static PostContentPatchResponseDTO of(Post post, String changedContent) {
+        return PostContentPatchResponseDTO.builder()
+                .postId(post.getPostId())
+                .version(post.getVersion())
+                .updatedAt(post.getUpdatedAt())
+                .content(changedContent)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.untitles.domain.post.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실시간 편집 접속 티켓 (?ticket= 으로 한 번만 사용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostEditTicketResponseDTO {
+
+    private String ticket;
+    private long expiresIn;
+
+    public static PostEditTicketResponseDTO of(String ticket, long expiresIn) {
+        return PostEditTicketResponseDTO.builder()
+                .ticket(ticket)
+                .expiresIn(expiresIn)
+                .build();
+    }
+}
@@ -27,12 +27,12 @@ public class PostResponseDTO {
     private String authNickname;
 
 
-    // Entity -> DTO
-    public static PostResponseDTO from(Post post){
+    // Entity -> DTO (본문은 PostContent 에서 따로 조회해 전달)
+    public static PostResponseDTO from(Post post, String content){
         return PostResponseDTO.builder()
                 .postId(post.getPostId())
                 .title(post.getTitle())
-                .content(post.getContent())
+                .content(content)
                 .version(post.getVersion())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
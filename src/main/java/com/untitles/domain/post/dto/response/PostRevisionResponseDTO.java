@@ -0,0 +1,51 @@
+package com.untitles.domain.post.dto.response;
+
+import com.untitles.domain.post.dto.query.PostRevisionRow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 이력
+ * - 목록에서는 content 없이, 특정 version 조회 시에만 복원한 본문 포함
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostRevisionResponseDTO {
+
+    private Long postId;
+    private Long version;
+    private String title;
+    private String content;
+    private Long editorId;
+    private String editorNickname;
+    private LocalDateTime createdAt;
+
+    public static PostRevisionResponseDTO from(Long postId, PostRevisionRow row) {
+        return PostRevisionResponseDTO.builder()
+                .postId(postId)
+                .version(row.version())
+                .title(row.title())
+                .editorId(row.editorId())
+                .editorNickname(row.editorNickname())
+                .createdAt(row.createdAt())
+                .build();
+    }
+
+    public static PostRevisionResponseDTO of(Long postId, Long version, String title, String content,
+                                             Long editorId, LocalDateTime createdAt) {
+        return PostRevisionResponseDTO.builder()
+                .postId(postId)
+                .version(version)
+                .title(title)
+                .content(content)
+                .editorId(editorId)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -1,14 +1,17 @@
 package com.untitles.domain.post.dto.response;
 
-import com.untitles.domain.post.entity.Post;
+import com.untitles.domain.post.dto.query.PostTreeRow;
+import com.untitles.domain.post.dto.query.PostVisibilityRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 /*
 * 트리에 표시할 때는 id, title, 날짜만 필요
+* - 엔티티가 아닌 프로젝션 행에서만 생성 (Post 엔티티를 로딩하면 MEDIUMTEXT content 까지 읽음)
 * */
 @Builder
 @Getter
@@ -16,16 +19,32 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class PostSimpleDTO {
     private Long postId;
+    // 제목/수정일은 트리 캐시 패치 시 변경
+    @Setter
     private String title;
+    @Setter
+    private String sortKey;
     private LocalDateTime createdAt;
+    @Setter
     private LocalDateTime updatedAt;
 
-    public static PostSimpleDTO from(final Post post) {
+    public static PostSimpleDTO from(final PostVisibilityRow row) {
         return PostSimpleDTO.builder()
-                .postId(post.getPostId())
-                .title(post.getTitle())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt())
+                .postId(row.postId())
+                .title(row.title())
+                .sortKey(row.sortKey())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
+    public static PostSimpleDTO from(final PostTreeRow row) {
+        return PostSimpleDTO.builder()
+                .postId(row.postId())
+                .title(row.title())
+                .sortKey(row.sortKey())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
                 .build();
     }
 
@@ -11,7 +11,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = @Index(name = "idx_post_folder_sort", columnList = "folder_id, sort_key"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -26,11 +26,17 @@ public class Post {
     @Version
     private Long version;
 
+    // 제목/본문이 마지막으로 바뀐 version (이동/공개 설정 변경은 제외) - 병합 base 판단용
+    @Column(name = "content_version", nullable = false)
+    @Builder.Default
+    private Long contentVersion = 0L;
+
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
-    private String content;
+    // 같은 폴더 내 정렬 키 (FractionalIndex) - 순서를 바꿀 때 이 행만 수정
+    @Column(name = "sort_key", nullable = false)
+    private String sortKey;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     @CreationTimestamp
@@ -55,12 +61,18 @@ public class Post {
     public void updateTitle(String Title) {
         this.title = Title;
     }
-    public void updateContent(String content) {
-        this.content = content;
+    // 제목/본문 변경 표시 - 본문(PostContent)만 바뀌어도 수정 시각과 version 을 올려 동시 수정 충돌을 감지
+    // (@Version 은 flush 때 1 증가하므로 그 값을 미리 기록)
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+        this.contentVersion = this.version + 1;
     }
     public void updateFolder(Folder folder) {
         this.folder = folder;
     }
+    public void updateSortKey(String sortKey) {
+        this.sortKey = sortKey;
+    }
 
     @Column(nullable = false)
     @Builder.Default
@@ -79,13 +91,13 @@ public class Post {
     }
 
     // 정적 팩토리 메서드
-    public static Post create(String title, String sanitizedContent, Users author, Workspace workspace, Folder folder) {
+    public static Post create(String title, Users author, Workspace workspace, Folder folder, String sortKey) {
         return Post.builder()
                 .title(title)
-                .content(sanitizedContent)
                 .author(author)
                 .workspace(workspace)
                 .folder(folder)
+                .sortKey(sortKey)
                 .build();
     }
 }
\ No newline at end of file
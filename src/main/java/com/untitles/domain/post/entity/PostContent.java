@@ -0,0 +1,58 @@
+package com.untitles.domain.post.entity;
+
+import com.untitles.global.util.ContentHash;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 게시글 본문
+ * - post 와 같은 id 를 쓰는 별도 테이블 (본문이 필요할 때만 조회)
+ * - 제목/공개 여부/폴더 변경이 MEDIUMTEXT 가 담긴 행을 다시 쓰지 않도록 분리
+ */
+@Entity
+@Table(name = "post_content")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PostContent {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    // 1바이트 형식 헤더 + (압축된) 본문
+    @Convert(converter = PostContentConverter.class)
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private String content;
+
+    // content 의 SHA-256 (해시 도입 전 저장된 행은 다음 저장 전까지 null)
+    @Column(name = "content_hash", columnDefinition = "BINARY(32)")
+    private byte[] contentHash;
+
+    public void updateContent(String content) {
+        this.content = content;
+        this.contentHash = hash(content);
+    }
+
+    // 정적 팩토리 메서드
+    public static PostContent create(Post post, String sanitizedContent) {
+        return PostContent.builder()
+                .post(post)
+                .content(sanitizedContent)
+                .contentHash(hash(sanitizedContent))
+                .build();
+    }
+
+    private static byte[] hash(String content) {
+        return content != null ? ContentHash.sha256(content) : null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.untitles.domain.post.entity;
+
+import com.untitles.global.util.ContentCodec;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 게시글 본문 <-> 저장 바이트 (ContentCodec)
+ * - PostContent 를 읽을 때만 압축 해제 (목록/트리 조회는 본문 테이블을 읽지 않음)
+ */
+@Converter
+public class PostContentConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return ContentCodec.encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return ContentCodec.decode(stored);
+    }
+}
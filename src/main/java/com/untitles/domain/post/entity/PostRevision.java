@@ -0,0 +1,85 @@
+package com.untitles.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 제목/본문 이력 (되돌리기/감사, 오래된 version 수정의 3-way 병합 base)
+ * - 주기적으로 전체 스냅샷, 그 사이는 직전 이력 대비 변경분만 저장 → 복원 시 최대 스냅샷 간격만큼만 적용
+ * - 이동/공개 설정처럼 제목/본문이 그대로인 version 은 기록하지 않음 (그 이하 최신 이력이 곧 그 시점 내용)
+ */
+@Builder
+@Entity
+@Table(name = "post_revision",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_revision_post_version", columnNames = {"post_id", "version"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long revisionId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PostRevisionType type;
+
+    // DELTA 일 때 변경분의 기준 이력 version
+    @Column(name = "base_version")
+    private Long baseVersion;
+
+    // 마지막 스냅샷 이후 변경분 개수 (스냅샷은 0)
+    @Column(name = "chain_length", nullable = false)
+    private Integer chainLength;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    // SNAPSHOT 이면 본문 전체, DELTA 면 변경분
+    @Convert(converter = PostContentConverter.class)
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private String content;
+
+    @Column(name = "editor_id")
+    private Long editorId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    public static PostRevision snapshot(Long postId, Long version, String title, String content, Long editorId) {
+        return PostRevision.builder()
+                .postId(postId)
+                .version(version)
+                .type(PostRevisionType.SNAPSHOT)
+                .chainLength(0)
+                .title(title)
+                .content(content)
+                .editorId(editorId)
+                .build();
+    }
+
+    public static PostRevision delta(Long postId, Long version, String title, String delta, Long editorId,
+                                     PostRevision base) {
+        return PostRevision.builder()
+                .postId(postId)
+                .version(version)
+                .type(PostRevisionType.DELTA)
+                .baseVersion(base.getVersion())
+                .chainLength(base.getChainLength() + 1)
+                .title(title)
+                .content(delta)
+                .editorId(editorId)
+                .build();
+    }
+}
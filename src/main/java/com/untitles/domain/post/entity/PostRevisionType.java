@@ -0,0 +1,6 @@
+package com.untitles.domain.post.entity;
+
+public enum PostRevisionType {
+    SNAPSHOT,   // 본문 전체
+    DELTA       // base_version 이력 대비 변경분 (TextDelta)
+}
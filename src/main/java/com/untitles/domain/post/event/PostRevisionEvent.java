@@ -0,0 +1,13 @@
+package com.untitles.domain.post.event;
+
+/*
+ * 게시글 제목/본문 변경 이벤트 - 커밋 후 비동기로 이력 저장
+ * */
+public record PostRevisionEvent(
+        Long postId,
+        Long version,
+        String title,
+        String content,
+        Long editorId
+) {
+}
@@ -0,0 +1,19 @@
+package com.untitles.domain.post.repository;
+
+import com.untitles.domain.post.entity.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+
+    // 본문 문자열만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT c.content FROM PostContent c WHERE c.postId = :postId")
+    Optional<String> findContentByPostId(@Param("postId") Long postId);
+
+    // 본문 해시만 조회 (본문을 읽지 않고 같은 본문인지 확인)
+    @Query("SELECT c.contentHash FROM PostContent c WHERE c.postId = :postId")
+    Optional<byte[]> findContentHashByPostId(@Param("postId") Long postId);
+}
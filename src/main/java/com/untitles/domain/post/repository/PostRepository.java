@@ -1,5 +1,9 @@
 package com.untitles.domain.post.repository;
 
+import com.untitles.domain.folder.entity.Folder;
+import com.untitles.domain.post.dto.query.PostLocationRow;
+import com.untitles.domain.post.dto.query.PostTreeRow;
+import com.untitles.domain.post.dto.query.PostVisibilityRow;
 import com.untitles.domain.post.entity.Post;
 import com.untitles.domain.workspace.entity.Workspace;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,15 +11,73 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    // 워크스페이스 + 폴더 없는 게시글 (루트 게시글)
-    List<Post> findByWorkspaceWorkspaceIdAndFolderIsNull(Long workspaceId);
+    // 트리 조립용 - 워크스페이스의 모든 게시글을 content 없이 한 번에 조회
+    @Query("SELECT new com.untitles.domain.post.dto.query.PostTreeRow(" +
+            "p.postId, f.folderId, p.title, p.sortKey, p.createdAt, p.updatedAt) " +
+            "FROM Post p LEFT JOIN p.folder f " +
+            "WHERE p.workspace.workspaceId = :workspaceId " +
+            "ORDER BY p.sortKey, p.postId")
+    List<PostTreeRow> findTreeRowsByWorkspaceId(@Param("workspaceId") Long workspaceId);
 
-    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.workspace.workspaceId = :workspaceId")
-    List<Post> findAllWithAuthorByWorkspaceWorkspaceId(@Param("workspaceId") Long workspaceId);
+    // 한 단계 조회용 - 특정 폴더 / 루트의 게시글만
+    @Query("SELECT new com.untitles.domain.post.dto.query.PostTreeRow(" +
+            "p.postId, p.folder.folderId, p.title, p.sortKey, p.createdAt, p.updatedAt) " +
+            "FROM Post p " +
+            "WHERE p.workspace.workspaceId = :workspaceId AND p.folder.folderId = :folderId " +
+            "ORDER BY p.sortKey, p.postId")
+    List<PostTreeRow> findTreeRowsByFolderId(@Param("workspaceId") Long workspaceId, @Param("folderId") Long folderId);
+
+    @Query("SELECT new com.untitles.domain.post.dto.query.PostTreeRow(" +
+            "p.postId, f.folderId, p.title, p.sortKey, p.createdAt, p.updatedAt) " +
+            "FROM Post p LEFT JOIN p.folder f " +
+            "WHERE p.workspace.workspaceId = :workspaceId AND f IS NULL " +
+            "ORDER BY p.sortKey, p.postId")
+    List<PostTreeRow> findRootTreeRows(@Param("workspaceId") Long workspaceId);
+
+    // 공개 설정 저장용 - 바뀐 게시글만 플래그 일괄 변경 (편집 내용이 아니므로 version/수정일은 그대로)
+    @Modifying
+    @Query("UPDATE Post p SET p.isPublic = :isPublic " +
+            "WHERE p.workspace.workspaceId = :workspaceId AND p.postId IN :postIds")
+    void updateIsPublic(@Param("workspaceId") Long workspaceId,
+                        @Param("postIds") Collection<Long> postIds,
+                        @Param("isPublic") boolean isPublic);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.isExcluded = :isExcluded " +
+            "WHERE p.workspace.workspaceId = :workspaceId AND p.postId IN :postIds")
+    void updateIsExcluded(@Param("workspaceId") Long workspaceId,
+                          @Param("postIds") Collection<Long> postIds,
+                          @Param("isExcluded") boolean isExcluded);
+
+    // 폴더 서브트리(경로 접두사) 안 게시글만
+    @Query("SELECT new com.untitles.domain.post.dto.query.PostTreeRow(" +
+            "p.postId, f.folderId, p.title, p.sortKey, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.folder f " +
+            "WHERE f.path LIKE CONCAT(:path, '%') " +
+            "ORDER BY p.sortKey, p.postId")
+    List<PostTreeRow> findTreeRowsInFolderSubtree(@Param("path") String path);
+
+    // 공개 트리 조립용 - content 없이 공개 판단 플래그까지
+    @Query("SELECT new com.untitles.domain.post.dto.query.PostVisibilityRow(" +
+            "p.postId, f.folderId, p.title, p.sortKey, p.createdAt, p.updatedAt, p.isPublic, p.isExcluded) " +
+            "FROM Post p LEFT JOIN p.folder f " +
+            "WHERE p.workspace.workspaceId = :workspaceId " +
+            "ORDER BY p.sortKey, p.postId")
+    List<PostVisibilityRow> findVisibilityRowsByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    // 공개 트리 조립용 - 공개 인덱스(public_post)에 있는 게시글만
+    @Query("SELECT new com.untitles.domain.post.dto.query.PostVisibilityRow(" +
+            "p.postId, f.folderId, p.title, p.sortKey, p.createdAt, p.updatedAt, p.isPublic, p.isExcluded) " +
+            "FROM Post p JOIN PublicPost pp ON pp.postId = p.postId LEFT JOIN p.folder f " +
+            "WHERE pp.workspaceId = :workspaceId " +
+            "ORDER BY p.sortKey, p.postId")
+    List<PostVisibilityRow> findPublicRowsByWorkspaceId(@Param("workspaceId") Long workspaceId);
 
     @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.postId = :postId AND p.workspace.workspaceId = :workspaceId")
     Optional<Post> findWithAuthorByPostIdAndWorkspaceWorkspaceId(@Param("postId") Long postId, @Param("workspaceId") Long workspaceId);
@@ -25,9 +87,56 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("DELETE FROM Post p WHERE p.workspace.workspaceId = :workspaceId")
     void deleteByWorkspaceWorkspaceId(@Param("workspaceId") Long workspaceId);
 
+    // 폴더 서브트리(경로 접두사) 아래 게시글 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.folder IN " +
+            "(SELECT f FROM Folder f WHERE f.path LIKE CONCAT(:path, '%'))")
+    void deleteAllInFolderSubtree(@Param("path") String path);
+
+    // 일괄 이동/삭제 대상 확인용 - 워크스페이스에 속한 게시글만
+    @Query("SELECT new com.untitles.domain.post.dto.query.PostLocationRow(" +
+            "p.postId, f.folderId, p.title, p.sortKey, p.createdAt, f.path) " +
+            "FROM Post p LEFT JOIN p.folder f " +
+            "WHERE p.workspace.workspaceId = :workspaceId AND p.postId IN :postIds")
+    List<PostLocationRow> findLocationRows(@Param("workspaceId") Long workspaceId,
+                                           @Param("postIds") Collection<Long> postIds);
+
+    // 일괄 이동 시 한 게시글씩 (엔티티 저장과 같게 수정일 갱신 + 버전 증가, 정렬 키는 서비스에서 새로 발급)
+    @Modifying
+    @Query("UPDATE Post p SET p.folder = :folder, p.sortKey = :sortKey, " +
+            "p.updatedAt = :now, p.version = p.version + 1 " +
+            "WHERE p.postId = :postId")
+    void moveToFolder(@Param("postId") Long postId,
+                      @Param("folder") Folder folder,
+                      @Param("sortKey") String sortKey,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.sortKey = :sortKey WHERE p.postId = :postId")
+    void updateSortKey(@Param("postId") Long postId, @Param("sortKey") String sortKey);
+
+    // 같은 폴더 게시글 중 마지막 정렬 키
+    @Query("SELECT MAX(p.sortKey) FROM Post p " +
+            "WHERE p.workspace.workspaceId = :workspaceId AND p.folder.folderId = :folderId")
+    String findLastSortKey(@Param("workspaceId") Long workspaceId, @Param("folderId") Long folderId);
+
+    @Query("SELECT MAX(p.sortKey) FROM Post p " +
+            "WHERE p.workspace.workspaceId = :workspaceId AND p.folder IS NULL")
+    String findLastRootSortKey(@Param("workspaceId") Long workspaceId);
+
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.postId IN :postIds")
+    void deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+
+    // ETag 용 version 만 조회
+    @Query("SELECT p.version FROM Post p WHERE p.postId = :postId AND p.workspace.workspaceId = :workspaceId")
+    Optional<Long> findVersion(@Param("postId") Long postId, @Param("workspaceId") Long workspaceId);
 
     // 워크스페이스 + 게시글 ID로 조회
     Optional<Post> findByPostIdAndWorkspaceWorkspaceId(Long postId, Long workspaceId);
 
+    boolean existsByPostIdAndWorkspaceWorkspaceId(Long postId, Long workspaceId);
+
     long countByWorkspace(Workspace workspace);
 }
\ No newline at end of file
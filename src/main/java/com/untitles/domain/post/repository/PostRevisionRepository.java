@@ -0,0 +1,39 @@
+package com.untitles.domain.post.repository;
+
+import com.untitles.domain.post.dto.query.PostRevisionRow;
+import com.untitles.domain.post.entity.PostRevision;
+import com.untitles.domain.post.entity.PostRevisionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PostRevisionRepository extends JpaRepository<PostRevision, Long> {
+
+    Optional<PostRevision> findByPostIdAndVersion(Long postId, Long version);
+
+    boolean existsByPostIdAndVersion(Long postId, Long version);
+
+    // version 시점의 제목/본문 = 그 이하에서 가장 최근 이력
+    Optional<PostRevision> findFirstByPostIdAndVersionLessThanEqualOrderByVersionDesc(Long postId, Long version);
+
+    // 변경분 기준이 될 직전 이력
+    Optional<PostRevision> findFirstByPostIdAndVersionLessThanOrderByVersionDesc(Long postId, Long version);
+
+    Optional<PostRevision> findFirstByPostIdAndTypeAndVersionLessThanEqualOrderByVersionDesc(
+            Long postId, PostRevisionType type, Long version);
+
+    @Query("SELECT new com.untitles.domain.post.dto.query.PostRevisionRow(" +
+            "r.version, r.title, r.editorId, u.nickname, r.createdAt) " +
+            "FROM PostRevision r LEFT JOIN Users u ON u.userId = r.editorId " +
+            "WHERE r.postId = :postId " +
+            "ORDER BY r.version DESC")
+    List<PostRevisionRow> findRowsByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostRevision r WHERE r.postId = :postId AND r.version < :version")
+    void deleteOlderThan(@Param("postId") Long postId, @Param("version") Long version);
+}
@@ -0,0 +1,86 @@
+package com.untitles.domain.post.service;
+
+import com.untitles.domain.post.dto.request.PostContentPatchRequestDTO.TextOperation;
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.exception.ErrorCode;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 본문에 텍스트 연산 적용
+ * - textOnly: 모든 연산이 태그 밖 텍스트 안에서만 일어났는지 (태그/엔티티를 만들거나 깨지 않음)
+ *   이미 sanitize 된 본문에 대해 true 면 결과도 sanitize 된 상태이므로 전체 재검사를 생략할 수 있음
+ * - PATCH 자동 저장과 실시간 편집(collab) 공용
+ */
+public final class PostContentPatch {
+
+    // 내용이 텍스트가 아닌 요소 안에서는 항상 재검사
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("script", "style", "textarea", "title");
+
+    private PostContentPatch() {
+    }
+
+    public record Result(String content, boolean textOnly) {
+    }
+
+    public static Result apply(String content, List<TextOperation> operations) {
+        StringBuilder doc = new StringBuilder(content != null ? content : "");
+        boolean textOnly = true;
+
+        for (TextOperation op : operations) {
+            int start = op.getPosition();
+            // position + deleteCount 가 int 를 넘어 음수가 되지 않도록 long 으로 비교
+            if (start < 0 || op.getDeleteCount() < 0 || start > doc.length()
+                    || (long) start + op.getDeleteCount() > doc.length()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+            int end = start + op.getDeleteCount();
+            String insert = op.getInsert() != null ? op.getInsert() : "";
+
+            if (textOnly) {
+                textOnly = !containsMarkup(insert)
+                        && !containsMarkup(doc, start, end)
+                        && inTextContext(doc, start);
+            }
+            doc.replace(start, end, insert);
+        }
+        return new Result(doc.toString(), textOnly);
+    }
+
+    private static boolean containsMarkup(CharSequence s) {
+        return containsMarkup(s, 0, s.length());
+    }
+
+    private static boolean containsMarkup(CharSequence s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c == '<' || c == '>' || c == '&') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // position 앞쪽에서 마지막으로 닫힌 태그가 일반 요소인지 (태그 내부/속성값 안이 아님)
+    private static boolean inTextContext(StringBuilder doc, int position) {
+        int lastOpen = doc.lastIndexOf("<", position - 1);
+        if (lastOpen < 0) {
+            return true;
+        }
+        int lastClose = doc.lastIndexOf(">", position - 1);
+        if (lastClose < lastOpen) {
+            return false;
+        }
+        return !RAW_TEXT_TAGS.contains(tagName(doc, lastOpen));
+    }
+
+    private static String tagName(StringBuilder doc, int open) {
+        int i = open + 1;
+        int end = i;
+        while (end < doc.length() && Character.isLetterOrDigit(doc.charAt(end))) {
+            end++;
+        }
+        return doc.substring(i, end).toLowerCase();
+    }
+}
@@ -0,0 +1,78 @@
+package com.untitles.domain.post.service;
+
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.exception.ErrorCode;
+import com.untitles.global.util.HtmlSanitizer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시글 본문 sanitize (트랜잭션 밖에서 호출)
+ * - 작은 본문은 요청 스레드에서 바로, 큰 본문은 sanitizerTaskExecutor 에서
+ * - 대기 중인 본문의 총 문자 수로 제한 → 넘치면 기다리지 않고 SANITIZER_BUSY
+ * - DB 커넥션을 잡기 전에 끝내므로 CPU 작업 동안 커넥션 풀을 점유하지 않음
+ */
+@Component
+public class PostContentSanitizer {
+
+    private final HtmlSanitizer htmlSanitizer;
+    private final Executor executor;
+    private final Semaphore queuedChars;
+    private final int inlineMaxChars;
+    private final long timeoutMs;
+
+    public PostContentSanitizer(HtmlSanitizer htmlSanitizer,
+                                @Qualifier("sanitizerTaskExecutor") Executor executor,
+                                @Value("${app.sanitizer.max-queued-chars:2000000}") int maxQueuedChars,
+                                @Value("${app.sanitizer.inline-max-chars:8192}") int inlineMaxChars,
+                                @Value("${app.sanitizer.timeout-ms:5000}") long timeoutMs) {
+        this.htmlSanitizer = htmlSanitizer;
+        this.executor = executor;
+        this.queuedChars = new Semaphore(maxQueuedChars);
+        this.inlineMaxChars = inlineMaxChars;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public String sanitize(String html) {
+        if (html == null || html.length() <= inlineMaxChars) {
+            return htmlSanitizer.sanitize(html);
+        }
+
+        int weight = html.length();
+        if (!queuedChars.tryAcquire(weight)) {
+            throw new BusinessException(ErrorCode.SANITIZER_BUSY);
+        }
+        CompletableFuture<String> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> htmlSanitizer.sanitize(html), executor);
+        } catch (RejectedExecutionException e) {
+            queuedChars.release(weight);
+            throw new BusinessException(ErrorCode.SANITIZER_BUSY);
+        }
+        // 요청이 먼저 포기해도 작업이 끝날 때 반납
+        future.whenComplete((clean, e) -> queuedChars.release(weight));
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.SANITIZER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SANITIZER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
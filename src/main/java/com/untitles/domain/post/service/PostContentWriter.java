@@ -0,0 +1,73 @@
+package com.untitles.domain.post.service;
+
+import com.untitles.domain.post.dto.query.PostContentDraft;
+import com.untitles.domain.post.dto.query.PostContentState;
+import com.untitles.domain.post.dto.request.PostContentPatchRequestDTO;
+import com.untitles.domain.post.dto.request.PostUpdateRequestDTO;
+import com.untitles.domain.post.dto.response.PostContentPatchResponseDTO;
+import com.untitles.domain.post.dto.response.PostResponseDTO;
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 제목/본문 저장 흐름 (트랜잭션 없음)
+ * - 준비(읽기 전용 트랜잭션, 병합까지) → sanitize (PostContentSanitizer, DB 커넥션 없이) → 저장(쓰기 트랜잭션)
+ * - 준비한 뒤 다른 저장이 끼어들어 본문 version 이 바뀌었으면 다시 준비, MAX_ATTEMPTS 번 넘으면 VERSION_CONFLICT
+ */
+@Service
+@RequiredArgsConstructor
+public class PostContentWriter {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final PostService postService;
+    private final PostContentSanitizer postContentSanitizer;
+
+    /**
+     * 게시글 수정 - 권한/저장된 본문 해시 확인 후 바뀐 본문만 sanitize
+     */
+    public PostResponseDTO updatePost(Long userId, Long workspaceId, Long postId, PostUpdateRequestDTO request) {
+        String content = postService.checkUpdatable(userId, workspaceId, postId, request.getContent())
+                ? postContentSanitizer.sanitize(request.getContent())
+                : null;
+        return retry(() -> postService.updatePost(userId, workspaceId, postId,
+                sanitize(postService.prepareUpdate(userId, workspaceId, postId, request, content))));
+    }
+
+    /**
+     * 게시글 본문 부분 수정 (자동 저장)
+     */
+    public PostContentPatchResponseDTO patchContent(Long userId, Long workspaceId, Long postId,
+                                                    PostContentPatchRequestDTO request) {
+        return retry(() -> postService.patchContent(userId, workspaceId, postId,
+                sanitize(postService.preparePatch(userId, workspaceId, postId, request))));
+    }
+
+    /**
+     * 실시간 편집 세션 본문 저장 (PostEditRegistry 가 주기적으로 호출)
+     */
+    public PostContentState saveCollabContent(Long workspaceId, Long postId, Long editorId,
+                                              String baseContent, Long baseContentVersion, String content) {
+        return retry(() -> postService.saveCollabContent(workspaceId, postId, editorId,
+                sanitize(postService.prepareCollabContent(workspaceId, postId, baseContent, baseContentVersion, content))));
+    }
+
+    private PostContentDraft sanitize(PostContentDraft draft) {
+        return draft.sanitize() ? draft.sanitized(postContentSanitizer.sanitize(draft.content())) : draft;
+    }
+
+    private <T> T retry(Supplier<Optional<T>> attempt) {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            Optional<T> result = attempt.get();
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        throw new BusinessException(ErrorCode.VERSION_CONFLICT);
+    }
+}
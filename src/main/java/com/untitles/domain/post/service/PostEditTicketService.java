@@ -0,0 +1,68 @@
+package com.untitles.domain.post.service;
+
+import com.untitles.domain.post.dto.response.PostEditTicketResponseDTO;
+import com.untitles.domain.post.repository.PostRepository;
+import com.untitles.domain.workspace.entity.WorkspaceMember;
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.exception.ErrorCode;
+import com.untitles.global.util.WorkspaceMemberHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 실시간 편집 접속 티켓
+ * - 브라우저 WebSocket 은 헤더를 못 붙이는데, access token 을 URL 에 넣으면 접근 로그에 남음
+ * - 대신 짧게 유효한 1회용 티켓을 발급 (Redis, 게시글에 묶임), 핸드셰이크에서 꺼내며 삭제
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostEditTicketService {
+
+    private static final String KEY_PREFIX = "post-edit-ticket:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+    private final WorkspaceMemberHelper workspaceMemberHelper;
+
+    @Value("${app.collab.ticket-ttl-seconds:30}")
+    private long ticketTtlSeconds;
+
+    /**
+     * 티켓 발급 - 워크스페이스 쓰기 권한이 있고 게시글이 그 워크스페이스에 있을 때만
+     */
+    public PostEditTicketResponseDTO issue(Long userId, Long workspaceId, Long postId) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+        if (!postRepository.existsByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+
+        String ticket = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(KEY_PREFIX + ticket, userId + ":" + workspaceId + ":" + postId,
+                Duration.ofSeconds(ticketTtlSeconds));
+        return PostEditTicketResponseDTO.of(ticket, ticketTtlSeconds);
+    }
+
+    /**
+     * 티켓 사용 (1회) - 같은 게시글로 발급된 티켓이면 userId
+     */
+    public Optional<Long> consume(String ticket, Long workspaceId, Long postId) {
+        String stored = redisTemplate.opsForValue().getAndDelete(KEY_PREFIX + ticket);
+        if (stored == null) {
+            return Optional.empty();
+        }
+        String[] parts = stored.split(":");
+        if (!workspaceId.toString().equals(parts[1]) || !postId.toString().equals(parts[2])) {
+            return Optional.empty();
+        }
+        return Optional.of(Long.valueOf(parts[0]));
+    }
+}
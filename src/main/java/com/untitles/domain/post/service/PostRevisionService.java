@@ -0,0 +1,154 @@
+package com.untitles.domain.post.service;
+
+import com.untitles.domain.post.dto.response.PostRevisionResponseDTO;
+import com.untitles.domain.post.entity.PostRevision;
+import com.untitles.domain.post.entity.PostRevisionType;
+import com.untitles.domain.post.event.PostRevisionEvent;
+import com.untitles.domain.post.repository.PostRepository;
+import com.untitles.domain.post.repository.PostRevisionRepository;
+import com.untitles.global.exception.BusinessException;
+import com.untitles.global.exception.ErrorCode;
+import com.untitles.global.util.TextDelta;
+import com.untitles.global.util.WorkspaceMemberHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 이력
+ * - 저장은 커밋 후 전용 스레드에서 (요청 응답 시간에 포함되지 않음)
+ * - SNAPSHOT_INTERVAL 번마다 전체 스냅샷, 그 사이는 직전 이력 대비 변경분
+ * - 복원은 가장 가까운 스냅샷 + 변경분 최대 SNAPSHOT_INTERVAL - 1 개 적용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostRevisionService {
+
+    static final int SNAPSHOT_INTERVAL = 10;
+
+    private final PostRevisionRepository postRevisionRepository;
+    private final PostRepository postRepository;
+    private final WorkspaceMemberHelper workspaceMemberHelper;
+
+    // 게시글별 보관할 최근 version 수 (이보다 오래된 스냅샷 구간은 통째로 정리)
+    @Value("${app.limits.post-revisions-kept:100}")
+    private long revisionsKept;
+
+    /**
+     * 이력 목록 (본문 없이)
+     */
+    public List<PostRevisionResponseDTO> getRevisions(Long userId, Long workspaceId, Long postId) {
+        checkPost(userId, workspaceId, postId);
+        return postRevisionRepository.findRowsByPostId(postId).stream()
+                .map(row -> PostRevisionResponseDTO.from(postId, row))
+                .toList();
+    }
+
+    /**
+     * 특정 version 시점의 제목/본문 복원
+     */
+    public PostRevisionResponseDTO getRevision(Long userId, Long workspaceId, Long postId, Long version) {
+        checkPost(userId, workspaceId, postId);
+        return findAt(postId, version)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+    }
+
+    /**
+     * version 시점의 제목/본문 (그 이하 최신 이력을 복원, 없으면 empty)
+     */
+    public Optional<PostRevisionResponseDTO> findAt(Long postId, Long version) {
+        return postRevisionRepository.findFirstByPostIdAndVersionLessThanEqualOrderByVersionDesc(postId, version)
+                .map(revision -> PostRevisionResponseDTO.of(postId, revision.getVersion(), revision.getTitle(),
+                        reconstruct(revision), revision.getEditorId(), revision.getCreatedAt()));
+    }
+
+    public boolean exists(Long postId, Long version) {
+        return postRevisionRepository.existsByPostIdAndVersion(postId, version);
+    }
+
+    /**
+     * 커밋된 변경을 이력으로 저장
+     * - 실패해도 게시글 저장은 이미 끝났으므로 로그만 남김 (병합 시 base 가 없으면 충돌로 처리됨)
+     */
+    @Async("postRevisionTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRevision(PostRevisionEvent event) {
+        try {
+            write(event);
+        } catch (Exception e) {
+            log.warn("게시글 이력 저장 실패 postId={}, version={}: {}", event.postId(), event.version(), e.getMessage());
+        }
+    }
+
+    void write(PostRevisionEvent event) {
+        if (postRevisionRepository.existsByPostIdAndVersion(event.postId(), event.version())) {
+            return;
+        }
+
+        PostRevision previous = postRevisionRepository
+                .findFirstByPostIdAndVersionLessThanOrderByVersionDesc(event.postId(), event.version())
+                .orElse(null);
+        PostRevision revision = null;
+        if (previous != null && previous.getChainLength() + 1 < SNAPSHOT_INTERVAL) {
+            String delta = TextDelta.diff(reconstruct(previous), event.content());
+            // 변경분이 본문보다 크면 스냅샷이 나음
+            if (delta != null && delta.length() < event.content().length()) {
+                revision = PostRevision.delta(event.postId(), event.version(), event.title(), delta,
+                        event.editorId(), previous);
+            }
+        }
+        if (revision == null) {
+            revision = PostRevision.snapshot(event.postId(), event.version(), event.title(), event.content(),
+                    event.editorId());
+        }
+        postRevisionRepository.save(revision);
+        prune(event.postId(), event.version());
+    }
+
+    // 보관 범위 밖에서 가장 최근 스냅샷 이전만 삭제 (남는 변경분의 기준이 끊기지 않도록)
+    private void prune(Long postId, Long version) {
+        postRevisionRepository.findFirstByPostIdAndTypeAndVersionLessThanEqualOrderByVersionDesc(
+                        postId, PostRevisionType.SNAPSHOT, version - revisionsKept)
+                .ifPresent(snapshot -> postRevisionRepository.deleteOlderThan(postId, snapshot.getVersion()));
+    }
+
+    private String reconstruct(PostRevision revision) {
+        Deque<PostRevision> deltas = new ArrayDeque<>();
+        PostRevision current = revision;
+        while (current.getType() == PostRevisionType.DELTA) {
+            deltas.push(current);
+            Long postId = current.getPostId();
+            Long baseVersion = current.getBaseVersion();
+            current = postRevisionRepository.findByPostIdAndVersion(postId, baseVersion)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "이력 기준 version 없음 postId=" + postId + ", version=" + baseVersion));
+        }
+
+        String content = current.getContent();
+        while (!deltas.isEmpty()) {
+            content = TextDelta.apply(content, deltas.pop().getContent());
+        }
+        return content;
+    }
+
+    private void checkPost(Long userId, Long workspaceId, Long postId) {
+        workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        if (!postRepository.existsByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package com.untitles.domain.post.service;
 
+import com.untitles.domain.folder.dto.request.ReorderRequestDTO;
 import com.untitles.domain.folder.entity.Folder;
+import com.untitles.domain.folder.entity.TreeChangeType;
+import com.untitles.domain.folder.event.TreeNodeChange;
 import com.untitles.domain.folder.repository.FolderRepository;
+import com.untitles.domain.folder.service.WorkspaceTreeRevisionService;
+import com.untitles.domain.post.dto.query.PostContentDraft;
+import com.untitles.domain.post.dto.query.PostContentState;
+import com.untitles.domain.post.dto.request.PostContentPatchRequestDTO;
 import com.untitles.domain.post.dto.request.PostCreateRequestDTO;
 import com.untitles.domain.post.dto.request.PostUpdateRequestDTO;
+import com.untitles.domain.post.dto.response.PostContentPatchResponseDTO;
 import com.untitles.domain.post.dto.response.PostResponseDTO;
+import com.untitles.domain.post.dto.response.PostRevisionResponseDTO;
 import com.untitles.domain.post.entity.Post;
+import com.untitles.domain.post.entity.PostContent;
+import com.untitles.domain.post.event.PostRevisionEvent;
+import com.untitles.domain.post.repository.PostContentRepository;
 import com.untitles.domain.post.repository.PostRepository;
 import com.untitles.domain.user.entity.Users;
 import com.untitles.domain.workspace.entity.Workspace;
@@ -13,23 +25,40 @@ import com.untitles.domain.workspace.entity.WorkspaceMember;
 import com.untitles.domain.workspace.repository.WorkspaceMemberRepository;
 import com.untitles.global.exception.BusinessException;
 import com.untitles.global.exception.ErrorCode;
-import com.untitles.global.util.HtmlSanitizer;
+import com.untitles.global.util.ContentHash;
+import com.untitles.global.util.FractionalIndex;
+import com.untitles.global.util.ThreeWayMerge;
 import com.untitles.global.util.WorkspaceMemberHelper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
+    private final PostRevisionService postRevisionService;
     private final FolderRepository folderRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
-    private final HtmlSanitizer htmlSanitizer;
     private final WorkspaceMemberHelper workspaceMemberHelper;
+    private final WorkspaceTreeRevisionService workspaceTreeRevisionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 워크스페이스당 게시글 수 제한
+    @Value("${app.limits.posts-per-workspace:50}")
+    private long postLimit;
+
+    // PostCreateRequestDTO / PostUpdateRequestDTO 의 content 최대 길이와 동일
+    private static final int MAX_CONTENT_LENGTH = 50000;
 
     /**
      * 게시글 상세 조회
@@ -38,15 +67,53 @@ public class PostService {
         workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
         Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
-        return PostResponseDTO.from(post);
+        return PostResponseDTO.from(post, findContent(postId));
+    }
+
+    /**
+     * 게시글 ETag (본문/DTO 없이 version 만 조회)
+     * - 제목/본문/폴더/공개 여부가 바뀌면 version 이 올라감
+     */
+    public String getPostETag(Long userId, Long workspaceId, Long postId) {
+        workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        Long version = postRepository.findVersion(postId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        return "post-" + postId + "-" + version;
+    }
+
+    /**
+     * 게시글 생성 전 권한 확인 (본문 sanitize 전에, 쓰기 트랜잭션 밖에서)
+     */
+    public void checkCreatable(Long userId, Long workspaceId) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+    }
+
+    /**
+     * 게시글 수정 전 권한/본문 확인 (본문 sanitize 전에, 쓰기 트랜잭션 밖에서)
+     * @return 본문을 sanitize 해 저장해야 하면 true, 본문이 없거나 저장된 본문과 같으면 false
+     */
+    public boolean checkUpdatable(Long userId, Long workspaceId, Long postId, String content) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+        if (!postRepository.existsByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+        if (content == null) {
+            return false;
+        }
+        // 자동 저장이 저장된 본문을 그대로 다시 보내는 경우 sanitize/병합/쓰기 모두 생략
+        byte[] savedHash = postContentRepository.findContentHashByPostId(postId).orElse(null);
+        return savedHash == null || !Arrays.equals(savedHash, ContentHash.sha256(content));
     }
 
     /**
      * 게시글 생성
+     * - sanitizedContent: checkCreatable 후 트랜잭션 밖에서 PostContentSanitizer 로 정화한 request.content
      */
     @Transactional
-    @CacheEvict(value = "workspaceTree", key = "#workspaceId")
-    public PostResponseDTO createPost(Long userId, Long workspaceId, PostCreateRequestDTO request) {
+    public PostResponseDTO createPost(Long userId, Long workspaceId, PostCreateRequestDTO request,
+                                      String sanitizedContent) {
         WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
         workspaceMemberHelper.checkWritePermission(member);
 
@@ -54,7 +121,7 @@ public class PostService {
         Workspace workspace = member.getWorkspace();
 
         long postCount = postRepository.countByWorkspace(workspace);
-        if (postCount >= 50) {
+        if (postCount >= postLimit) {
             throw new BusinessException(ErrorCode.POST_LIMIT_EXCEEDED);
         }
 
@@ -64,37 +131,211 @@ public class PostService {
                     .orElseThrow(() -> new BusinessException(ErrorCode.FOLDER_NOT_FOUND));
         }
 
-        String sanitizedContent = htmlSanitizer.sanitize(request.getContent());
-        Post post = Post.create(request.getTitle(), sanitizedContent, user, workspace, folder);
+        // 같은 폴더 게시글 중 맨 뒤에 추가
+        String sortKey = FractionalIndex.between(lastSortKey(workspaceId, request.getFolderId()), null);
+        Post post = Post.create(request.getTitle(), user, workspace, folder, sortKey);
         Post savedPost = postRepository.save(post);
-        return PostResponseDTO.from(savedPost);
+        postContentRepository.save(PostContent.create(savedPost, sanitizedContent));
+        publishRevision(savedPost, sanitizedContent, userId);
+        workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofPost(TreeChangeType.CREATED, savedPost));
+        return PostResponseDTO.from(savedPost, sanitizedContent);
     }
 
     /**
-     * 게시글 수정
+     * 게시글 수정 준비 (읽기 전용 - 병합까지만, sanitize 는 PostContentWriter 가 트랜잭션 밖에서)
+     * - 요청 version 이 오래됐으면 그 version 의 이력을 base 로 3-way 병합
+     *   (겹치는 변경이 있을 때만 VERSION_CONFLICT)
+     * - sanitizedContent: checkUpdatable 후 트랜잭션 밖에서 PostContentSanitizer 로 정화한 request.content
+     *   (null 이면 본문은 그대로)
+     */
+    public PostContentDraft prepareUpdate(Long userId, Long workspaceId, Long postId, PostUpdateRequestDTO request,
+                                          String sanitizedContent) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+
+        Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+
+        PostContent postContent = postContentRepository.findById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+
+        String title = request.getTitle();
+        String content = sanitizedContent;
+        boolean sanitize = false;
+        if (request.getVersion() != null && !request.getVersion().equals(post.getVersion())) {
+            PostRevisionResponseDTO base = findBase(post, postContent, request.getVersion());
+            if (title != null) {
+                title = ThreeWayMerge.merge(base.getTitle(), post.getTitle(), title)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.VERSION_CONFLICT));
+            }
+            if (content != null) {
+                content = mergeContent(base.getContent(), postContent.getContent(), sanitizedContent);
+                sanitize = isMixed(content, postContent.getContent(), sanitizedContent);
+            }
+        }
+        return new PostContentDraft(post.getContentVersion(), title, content, sanitizedContent, sanitize);
+    }
+
+    /**
+     * 게시글 수정 저장
+     * - 준비한 뒤 다른 저장으로 제목/본문이 바뀌었으면 empty (PostContentWriter 가 다시 준비)
      */
     @Transactional
-    @CacheEvict(value = "workspaceTree", key = "#workspaceId")
-    public PostResponseDTO updatePost(Long userId, Long workspaceId, Long postId, PostUpdateRequestDTO request) {
+    public Optional<PostResponseDTO> updatePost(Long userId, Long workspaceId, Long postId, PostContentDraft draft) {
         WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
         workspaceMemberHelper.checkWritePermission(member);
 
         Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (!post.getContentVersion().equals(draft.contentVersion())) {
+            return Optional.empty();
+        }
+
+        PostContent postContent = postContentRepository.findById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
-        if (request.getTitle() != null) post.updateTitle(request.getTitle());
-        if (request.getContent() != null) {
-            String sanitizedContent = htmlSanitizer.sanitize(request.getContent());
-            post.updateContent(sanitizedContent);
+        boolean changed = false;
+        if (draft.title() != null && !draft.title().equals(post.getTitle())) {
+            post.updateTitle(draft.title());
+            changed = true;
         }
-        return PostResponseDTO.from(postRepository.saveAndFlush(post));
+        if (draft.content() != null && !draft.content().equals(postContent.getContent())) {
+            postContent.updateContent(draft.content());
+            changed = true;
+        }
+        // 바뀐 게 없으면 저장/이력/트리 변경 기록 모두 생략
+        if (!changed) {
+            return Optional.of(PostResponseDTO.from(post, postContent.getContent()));
+        }
+        post.touch();
+        Post savedPost = postRepository.saveAndFlush(post);
+        publishRevision(savedPost, postContent.getContent(), userId);
+        workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofPost(TreeChangeType.UPDATED, savedPost));
+        return Optional.of(PostResponseDTO.from(savedPost, postContent.getContent()));
+    }
+
+    /**
+     * 게시글 본문 부분 수정 준비 (자동 저장, 읽기 전용)
+     * - baseVersion 이 현재 version 과 다르면 그 version 본문에 연산을 적용한 뒤 현재 본문과 3-way 병합
+     * - 태그 밖 텍스트만 바뀌었고 병합으로 섞이지 않았으면 이미 sanitize 된 본문이 그대로 안전하므로 재검사 생략
+     */
+    public PostContentDraft preparePatch(Long userId, Long workspaceId, Long postId,
+                                         PostContentPatchRequestDTO request) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+
+        Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        PostContent postContent = postContentRepository.findById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+
+        boolean stale = !request.getBaseVersion().equals(post.getVersion());
+        String baseContent = stale
+                ? findBase(post, postContent, request.getBaseVersion()).getContent()
+                : postContent.getContent();
+
+        PostContentPatch.Result patched = PostContentPatch.apply(baseContent, request.getOperations());
+        if (patched.content().length() > MAX_CONTENT_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        String content = patched.content();
+        boolean sanitize = !patched.textOnly();
+        if (stale) {
+            String current = postContent.getContent();
+            content = mergeContent(baseContent, current, patched.content());
+            // 현재 본문 그대로면 이미 안전, 아니면 태그가 바뀌었거나 두 쪽이 섞였을 때 sanitize
+            sanitize = !content.equals(current) && (sanitize || isMixed(content, current, patched.content()));
+        }
+        return new PostContentDraft(post.getContentVersion(), null, content, patched.content(), sanitize);
+    }
+
+    /**
+     * 게시글 본문 부분 수정 저장
+     * - 준비한 뒤 다른 저장으로 제목/본문이 바뀌었으면 empty (PostContentWriter 가 다시 준비)
+     */
+    @Transactional
+    public Optional<PostContentPatchResponseDTO> patchContent(Long userId, Long workspaceId, Long postId,
+                                                              PostContentDraft draft) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+
+        Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (!post.getContentVersion().equals(draft.contentVersion())) {
+            return Optional.empty();
+        }
+        PostContent postContent = postContentRepository.findById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+
+        postContent.updateContent(draft.content());
+        post.touch();
+        Post savedPost = postRepository.saveAndFlush(post);
+        publishRevision(savedPost, draft.content(), userId);
+        workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofPost(TreeChangeType.UPDATED, savedPost));
+
+        // sanitize/병합으로 본문이 달라졌으면 클라이언트가 맞출 수 있도록 전체 본문을 내려줌
+        return Optional.of(PostContentPatchResponseDTO.of(savedPost,
+                draft.content().equals(draft.clientContent()) ? null : draft.content()));
+    }
+
+    /**
+     * 실시간 편집 세션 시작 시 본문 상태
+     */
+    public PostContentState getContentState(Long workspaceId, Long postId) {
+        Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        return new PostContentState(findContent(postId), post.getContentVersion());
+    }
+
+    /**
+     * 실시간 편집 세션 본문 저장 준비 (PostEditRegistry 가 주기적으로, 읽기 전용)
+     * - 세션이 마지막으로 저장한 뒤 REST 로 제목/본문이 바뀌었으면 3-way 병합
+     * - 같은 곳을 고쳐 병합이 안 되면 덮어쓰지 않고 VERSION_CONFLICT (편집 세션이 DB 본문으로 다시 맞춤)
+     * - 세션 연산은 적용 시 이미 sanitize 됐으므로 병합으로 섞인 경우만 다시 sanitize
+     */
+    public PostContentDraft prepareCollabContent(Long workspaceId, Long postId, String baseContent,
+                                                 Long baseContentVersion, String content) {
+        Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (post.getContentVersion().equals(baseContentVersion)) {
+            return new PostContentDraft(post.getContentVersion(), null, content, content, false);
+        }
+
+        String current = findContent(postId);
+        String merged = mergeContent(baseContent, current, content);
+        return new PostContentDraft(post.getContentVersion(), null, merged, content, isMixed(merged, current, content));
+    }
+
+    /**
+     * 실시간 편집 세션 본문 저장
+     * - 준비한 뒤 다른 저장으로 제목/본문이 바뀌었으면 empty (PostContentWriter 가 다시 준비)
+     */
+    @Transactional
+    public Optional<PostContentState> saveCollabContent(Long workspaceId, Long postId, Long editorId,
+                                                        PostContentDraft draft) {
+        Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (!post.getContentVersion().equals(draft.contentVersion())) {
+            return Optional.empty();
+        }
+        PostContent postContent = postContentRepository.findById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+
+        if (!draft.content().equals(postContent.getContent())) {
+            postContent.updateContent(draft.content());
+            post.touch();
+            Post savedPost = postRepository.saveAndFlush(post);
+            publishRevision(savedPost, draft.content(), editorId);
+            workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofPost(TreeChangeType.UPDATED, savedPost));
+        }
+        return Optional.of(new PostContentState(draft.content(), post.getContentVersion()));
     }
 
     /**
      * 게시글 삭제
      */
     @Transactional
-    @CacheEvict(value = "workspaceTree", key = "#workspaceId")
     public void deletePost(Long userId, Long workspaceId, Long postId) {
         WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
         workspaceMemberHelper.checkWritePermission(member);
@@ -102,14 +343,15 @@ public class PostService {
         Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
+        TreeNodeChange change = TreeNodeChange.ofPost(TreeChangeType.DELETED, post);
         postRepository.delete(post);
+        workspaceTreeRevisionService.record(workspaceId, change);
     }
 
     /**
      * 게시글 이동 (폴더 변경)
      */
     @Transactional
-    @CacheEvict(value = "workspaceTree", key = "#workspaceId")
     public PostResponseDTO movePost(Long userId, Long workspaceId, Long postId, Long newFolderId) {
         WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
         workspaceMemberHelper.checkWritePermission(member);
@@ -124,7 +366,98 @@ public class PostService {
         }
 
         post.updateFolder(newFolder);
-        postRepository.save(post);
-        return PostResponseDTO.from(post);
+        post.updateSortKey(FractionalIndex.between(lastSortKey(workspaceId, newFolderId), null));
+        postRepository.saveAndFlush(post);
+        workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofPost(TreeChangeType.MOVED, post));
+        return PostResponseDTO.from(post, findContent(postId));
+    }
+
+    /**
+     * 게시글 순서 변경 (같은 폴더 안에서 prevId 와 nextId 사이로)
+     * - 두 게시글의 정렬 키 사이 값을 새로 발급하므로 옮긴 게시글 한 행만 수정
+     */
+    @Transactional
+    public PostResponseDTO reorderPost(Long userId, Long workspaceId, Long postId, ReorderRequestDTO request) {
+        WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
+        workspaceMemberHelper.checkWritePermission(member);
+
+        Post post = postRepository.findByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (request.getPrevId() == null && request.getNextId() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        String before = siblingSortKey(workspaceId, post, request.getPrevId());
+        String after = siblingSortKey(workspaceId, post, request.getNextId());
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        post.updateSortKey(FractionalIndex.between(before, after));
+        Post savedPost = postRepository.saveAndFlush(post);
+        workspaceTreeRevisionService.record(workspaceId, TreeNodeChange.ofPost(TreeChangeType.MOVED, savedPost));
+        return PostResponseDTO.from(savedPost, findContent(postId));
+    }
+
+    /**
+     * 요청 version 시점의 제목/본문 (병합 base)
+     * - 그 이후 제목/본문 변경이 없었으면 현재 값이 곧 base
+     * - 이력은 비동기로 저장되므로 최신 변경의 이력이 아직 없으면 base 를 확정할 수 없어 충돌
+     */
+    private PostRevisionResponseDTO findBase(Post post, PostContent postContent, Long version) {
+        if (version >= post.getContentVersion()) {
+            return PostRevisionResponseDTO.of(post.getPostId(), version, post.getTitle(), postContent.getContent(),
+                    null, post.getUpdatedAt());
+        }
+        if (!postRevisionService.exists(post.getPostId(), post.getContentVersion())) {
+            throw new BusinessException(ErrorCode.VERSION_CONFLICT);
+        }
+        return postRevisionService.findAt(post.getPostId(), version)
+                .orElseThrow(() -> new BusinessException(ErrorCode.VERSION_CONFLICT));
+    }
+
+    private String mergeContent(String base, String current, String mine) {
+        return ThreeWayMerge.merge(base, current, mine)
+                .orElseThrow(() -> new BusinessException(ErrorCode.VERSION_CONFLICT));
+    }
+
+    // 두 쪽 변경이 섞인 결과는 태그 조합이 새로 생길 수 있으므로 다시 sanitize 해야 함
+    private static boolean isMixed(String merged, String current, String mine) {
+        return !merged.equals(current) && !merged.equals(mine);
+    }
+
+    // 이력은 커밋 후 PostRevisionService 가 비동기로 저장
+    private void publishRevision(Post post, String content, Long editorId) {
+        eventPublisher.publishEvent(new PostRevisionEvent(
+                post.getPostId(), post.getVersion(), post.getTitle(), content, editorId));
+    }
+
+    private String findContent(Long postId) {
+        return postContentRepository.findContentByPostId(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+    }
+
+    private String lastSortKey(Long workspaceId, Long folderId) {
+        return folderId != null
+                ? postRepository.findLastSortKey(workspaceId, folderId)
+                : postRepository.findLastRootSortKey(workspaceId);
+    }
+
+    // 순서 변경 기준 게시글의 정렬 키 (같은 폴더가 아니면 잘못된 요청)
+    private String siblingSortKey(Long workspaceId, Post post, Long siblingId) {
+        if (siblingId == null) {
+            return null;
+        }
+        Post sibling = postRepository.findByPostIdAndWorkspaceWorkspaceId(siblingId, workspaceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (sibling.getPostId().equals(post.getPostId())
+                || !Objects.equals(folderIdOf(sibling), folderIdOf(post))) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        return sibling.getSortKey();
+    }
+
+    private Long folderIdOf(Post post) {
+        return post.getFolder() != null ? post.getFolder().getFolderId() : null;
     }
 }
@@ -1,11 +1,18 @@
 package com.untitles.domain.publish.controller;
 
+import com.untitles.domain.publish.dto.query.PublicContentState;
 import com.untitles.domain.publish.dto.response.PublicWorkspaceResponse;
+import com.untitles.domain.publish.service.PublicSnapshotService;
 import com.untitles.domain.publish.service.PublicViewService;
-import com.untitles.global.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/v1/public")
@@ -13,19 +20,50 @@ import org.springframework.web.bind.annotation.*;
 public class PublicViewController {
 
     private final PublicViewService publicViewService;
+    private final PublicSnapshotService publicSnapshotService;
 
     // 공개 워크스페이스 목록 (폴더 트리 + 게시글 제목들)
+    // revision 이 같으면 트리를 만들지 않고 304, gzip 을 받으면 스냅샷 파일을 그대로 전송
     @GetMapping("/{slug}")
     public ResponseEntity<PublicWorkspaceResponse> getPublicWorkspace(
-            @PathVariable String slug) {
-        return ResponseEntity.ok(publicViewService.getPublicWorkspace(slug));
+            @PathVariable String slug,
+            WebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        PublicContentState state = publicViewService.getWorkspaceState(slug);
+        String eTag = representationETag(state, request, response);
+        if (webRequest.checkNotModified(eTag)
+                || publicSnapshotService.sendWorkspace(slug, state, request, response)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(publicViewService.getPublicWorkspace(slug, state));
     }
 
     // 공개 게시글 상세
     @GetMapping("/{slug}/posts/{postId}")
     public ResponseEntity<PublicWorkspaceResponse.PublicPostDetail> getPublicPost(
             @PathVariable String slug,
-            @PathVariable Long postId) {
-        return ResponseEntity.ok(publicViewService.getPublicPost(slug, postId));
+            @PathVariable Long postId,
+            WebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        PublicContentState state = publicViewService.getPostState(slug, postId);
+        String eTag = representationETag(state, request, response);
+        if (webRequest.checkNotModified(eTag)
+                || publicSnapshotService.sendPost(slug, postId, state, request, response)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(publicViewService.getPublicPost(slug, postId, state));
+    }
+
+    // Accept-Encoding 에 따라 gzip 스냅샷 / 일반 응답으로 나뉘므로 304 포함 모든 응답에 Vary, ETag 도 표현별로
+    private String representationETag(PublicContentState state, HttpServletRequest request,
+                                      HttpServletResponse response) {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        return publicSnapshotService.eTag(state, request);
     }
 }
\ No newline at end of file
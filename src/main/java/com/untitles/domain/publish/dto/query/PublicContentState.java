@@ -0,0 +1,32 @@
+package com.untitles.domain.publish.dto.query;
+
+/*
+ * 공개 페이지 내용을 결정하는 revision 묶음 (ETag, 캐시 키)
+ * - publishRevision: 공개 설정/워크스페이스 이름·설명 변경 시 증가
+ * - treeRevision: 폴더/게시글 생성·수정·이동·삭제 시 증가
+ * - postVersion: 게시글 상세일 때만 (게시글 @Version, 상세 ETag 는 postId/version 만 사용)
+ * */
+public record PublicContentState(
+        Long workspaceId,
+        long publishRevision,
+        long treeRevision,
+        Long postId,
+        Long postVersion
+) {
+
+    public PublicContentState(Long workspaceId, Long publishRevision, Long treeRevision) {
+        this(workspaceId, publishRevision, treeRevision, null, null);
+    }
+
+    public PublicContentState withPost(Long postId, Long postVersion) {
+        return new PublicContentState(workspaceId, publishRevision, treeRevision, postId, postVersion);
+    }
+
+    public String eTag() {
+        if (postId == null) {
+            return "pub-" + publishRevision + "-" + treeRevision;
+        }
+        // 게시글 상세는 트리/공개 설정 변경과 무관 (공개 여부는 공개 인덱스로 따로 확인, 제목/본문은 version 에 반영됨)
+        return "pub-post-" + postId + "-" + postVersion;
+    }
+}
@@ -1,6 +1,6 @@
 package com.untitles.domain.publish.dto.response;
 
-import com.untitles.domain.folder.entity.Folder;
+import com.untitles.domain.folder.dto.query.FolderVisibilityRow;
 import com.untitles.domain.post.dto.response.PostSimpleDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,9 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -53,26 +52,16 @@ public class PublicWorkspaceResponse {
         private List<PublicFolderItem> children;
         private List<PostSimpleDTO> posts;
 
-        public static PublicFolderItem from(Folder folder, Set<Long> visiblePostIds) {
-            List<PostSimpleDTO> filteredPosts = folder.getPosts() != null
-                    ? folder.getPosts().stream()
-                            .filter(p -> visiblePostIds.contains(p.getPostId()))
-                            .map(PostSimpleDTO::from)
-                            .collect(Collectors.toList())
-                    : List.of();
-
-            List<PublicFolderItem> filteredChildren = folder.getChildren().stream()
-                    .map(child -> PublicFolderItem.from(child, visiblePostIds))
-                    .collect(Collectors.toList());
-
+        /* 트리 조립용 - 하위 폴더/게시글은 빈 리스트로 시작해서 PublicViewService 가 채움 */
+        public static PublicFolderItem from(FolderVisibilityRow row) {
             return PublicFolderItem.builder()
-                    .folderId(folder.getFolderId())
-                    .name(folder.getName())
-                    .parentId(folder.getParent() != null ? folder.getParent().getFolderId() : null)
-                    .createdAt(folder.getCreatedAt())
-                    .updatedAt(folder.getUpdatedAt())
-                    .children(filteredChildren)
-                    .posts(filteredPosts)
+                    .folderId(row.folderId())
+                    .name(row.name())
+                    .parentId(row.parentId())
+                    .createdAt(row.createdAt())
+                    .updatedAt(row.updatedAt())
+                    .children(new ArrayList<>())
+                    .posts(new ArrayList<>())
                     .build();
         }
     }
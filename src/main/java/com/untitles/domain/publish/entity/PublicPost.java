@@ -0,0 +1,25 @@
+package com.untitles.domain.publish.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공개 게시글 인덱스 행 (공개 설정/트리 구조로 계산한 결과)
+ * - 추가/삭제는 PublicPostRepository 의 집합 쿼리로만 수행
+ * - 게시글 삭제 시 FK ON DELETE CASCADE 로 함께 삭제
+ */
+@Entity
+@Table(name = "public_post", indexes = @Index(name = "idx_public_post_workspace", columnList = "workspace_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PublicPost {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+}
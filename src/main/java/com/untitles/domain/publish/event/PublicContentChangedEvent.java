@@ -0,0 +1,14 @@
+package com.untitles.domain.publish.event;
+
+import java.util.Collection;
+
+/*
+ * 공개 페이지 내용 변경 이벤트 (트리 변경 이벤트로 알 수 없는 것만)
+ * - 공개 설정으로 공개 여부가 바뀐 게시글, 워크스페이스 이름/설명 변경
+ * - postIds 가 비어 있으면 공개 트리만 해당
+ * */
+public record PublicContentChangedEvent(
+        Long workspaceId,
+        Collection<Long> postIds
+) {
+}
@@ -0,0 +1,30 @@
+package com.untitles.domain.publish.repository;
+
+import com.untitles.domain.publish.entity.PublicPost;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PublicPostRepository extends JpaRepository<PublicPost, Long> {
+
+    // 공개 여부 확인 (PK 조회)
+    boolean existsByPostIdAndWorkspaceId(Long postId, Long workspaceId);
+
+    @Query("SELECT pp.postId FROM PublicPost pp WHERE pp.workspaceId = :workspaceId")
+    List<Long> findPostIdsByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    // 워크스페이스 게시글만 추가 (동시 재계산과 겹쳐도 중복 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO public_post (post_id, workspace_id) " +
+            "SELECT p.post_id, p.workspace_id FROM post p " +
+            "WHERE p.workspace_id = :workspaceId AND p.post_id IN :postIds", nativeQuery = true)
+    void insertPostIds(@Param("workspaceId") Long workspaceId, @Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM PublicPost pp WHERE pp.workspaceId = :workspaceId AND pp.postId IN :postIds")
+    void deletePostIds(@Param("workspaceId") Long workspaceId, @Param("postIds") Collection<Long> postIds);
+}
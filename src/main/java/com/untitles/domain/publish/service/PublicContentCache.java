@@ -0,0 +1,104 @@
+package com.untitles.domain.publish.service;
+
+import com.untitles.domain.folder.entity.TreeNodeType;
+import com.untitles.domain.folder.event.TreeNodeChange;
+import com.untitles.domain.folder.event.WorkspaceTreeChangedEvent;
+import com.untitles.domain.publish.dto.response.PublicWorkspaceResponse;
+import com.untitles.domain.publish.dto.response.PublicWorkspaceResponse.PublicPostDetail;
+import com.untitles.domain.publish.event.PublicContentChangedEvent;
+import com.untitles.domain.workspace.repository.WorkspaceRepository;
+import com.untitles.global.util.VersionedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 공개 페이지 캐시 (slug 단위 네임스페이스)
+ * - 키: publicWorkspace → slug, publicPost → slug:postId (revision 마다 새 키를 만들지 않고 덮어씀)
+ * - 값과 함께 ETag 를 저장하고 조회 시 현재 ETag 와 같을 때만 사용 → 오래된 내용을 내주지 않음
+ * - 생성은 노드당 키/ETag 별로 한 번만, TTL 직전에는 조기 갱신 (VersionedCache)
+ * - 변경이 커밋되면 해당 slug 의 공개 트리 / 해당 게시글 키만 evict (다른 워크스페이스 캐시는 건드리지 않음)
+ */
+@Slf4j
+@Component
+public class PublicContentCache {
+
+    private static final String WORKSPACE_CACHE = "publicWorkspace";
+    private static final String POST_CACHE = "publicPost";
+
+    private final VersionedCache workspaceCache;
+    private final VersionedCache postCache;
+    private final WorkspaceRepository workspaceRepository;
+
+    public PublicContentCache(CacheManager cacheManager,
+                              WorkspaceRepository workspaceRepository,
+                              @Value("${app.cache.ttl:10m}") Duration ttl,
+                              @Value("${app.cache.early-refresh-beta:1.0}") double beta) {
+        this.workspaceCache = new VersionedCache(cacheManager.getCache(WORKSPACE_CACHE), ttl, beta);
+        this.postCache = new VersionedCache(cacheManager.getCache(POST_CACHE), ttl, beta);
+        this.workspaceRepository = workspaceRepository;
+    }
+
+    /**
+     * ETag 가 같은 공개 트리, 없으면 loader 로 만들어 저장 (노드당 slug/ETag 별로 한 번만 생성)
+     */
+    public PublicWorkspaceResponse getWorkspace(String slug, String eTag, Supplier<PublicWorkspaceResponse> loader) {
+        return workspaceCache.get(slug, eTag, PublicWorkspaceResponse.class, loader);
+    }
+
+    public PublicPostDetail getPost(String slug, Long postId, String eTag, Supplier<PublicPostDetail> loader) {
+        return postCache.get(postKey(slug, postId), eTag, PublicPostDetail.class, loader);
+    }
+
+    /**
+     * 트리 변경 커밋 후 - 공개 트리 + 변경된 게시글 evict
+     * - 게시글 본문 저장도 UPDATED 트리 변경으로 기록되므로 여기서 함께 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTreeChanged(WorkspaceTreeChangedEvent event) {
+        evict(event.workspaceId(), event.changes().stream()
+                .filter(change -> change.nodeType() == TreeNodeType.POST)
+                .map(TreeNodeChange::nodeId)
+                .toList());
+    }
+
+    /**
+     * 공개 설정 / 워크스페이스 정보 변경 커밋 후 - 공개 트리 + 공개 여부가 바뀐 게시글 evict
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPublicContentChanged(PublicContentChangedEvent event) {
+        evict(event.workspaceId(), event.postIds());
+    }
+
+    // ────────────────────────────────────────────────
+    // Private helpers
+    // ────────────────────────────────────────────────
+
+    private void evict(Long workspaceId, Collection<Long> postIds) {
+        try {
+            // 공개 주소가 없는 워크스페이스는 캐시된 공개 페이지도 없음
+            String slug = workspaceRepository.findPublicSlugByWorkspaceId(workspaceId).orElse(null);
+            if (slug == null) {
+                return;
+            }
+            workspaceCache.evict(slug);
+            for (Long postId : postIds) {
+                postCache.evict(postKey(slug, postId));
+            }
+        } catch (Exception e) {
+            // 커밋은 이미 끝났으므로 요청을 실패시키지 않음 (조회 시 ETag 비교로 걸러짐)
+            log.warn("공개 캐시 evict 실패 workspaceId={}: {}", workspaceId, e.getMessage());
+        }
+    }
+
+    private String postKey(String slug, Long postId) {
+        return slug + ":" + postId;
+    }
+}
@@ -0,0 +1,143 @@
+package com.untitles.domain.publish.service;
+
+import com.untitles.domain.folder.dto.query.FolderVisibilityRow;
+import com.untitles.domain.folder.entity.Folder;
+import com.untitles.domain.folder.entity.TreeChangeType;
+import com.untitles.domain.folder.event.WorkspaceTreeChangedEvent;
+import com.untitles.domain.folder.repository.FolderRepository;
+import com.untitles.domain.post.dto.query.PostVisibilityRow;
+import com.untitles.domain.post.repository.PostRepository;
+import com.untitles.domain.publish.event.PublicContentChangedEvent;
+import com.untitles.domain.publish.repository.PublicPostRepository;
+import com.untitles.domain.workspace.entity.Workspace;
+import com.untitles.domain.workspace.repository.WorkspaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 공개 게시글 인덱스 (public_post)
+ * - 공개 여부(워크스페이스/상위 폴더 전체공개, 게시글 공개/제외)를 쓰기 시점에 미리 계산
+ * - 공개 조회는 폴더 조상을 따라 판단하지 않고 인덱스만 확인
+ * - 공개 설정 저장, 트리 구조 변경(생성/이동/삭제) 트랜잭션 안에서 다시 계산 → 변경과 같이 커밋
+ */
+@Service
+@RequiredArgsConstructor
+public class PublicPostIndexService {
+
+    private final WorkspaceRepository workspaceRepository;
+    private final FolderRepository folderRepository;
+    private final PostRepository postRepository;
+    private final PublicPostRepository publicPostRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 워크스페이스 공개 게시글 다시 계산 (달라진 행만 추가/삭제)
+     */
+    @Transactional
+    public void rebuild(Long workspaceId) {
+        Workspace workspace = workspaceRepository.findById(workspaceId).orElse(null);
+        if (workspace == null) {
+            return;
+        }
+
+        Set<Long> visible = new HashSet<>();
+        // 공개 주소가 없으면 공개 페이지가 없으므로 인덱스도 비움
+        if (workspace.getPublicSlug() != null) {
+            Map<Long, FolderVisibilityRow> folderRowMap = new HashMap<>();
+            for (FolderVisibilityRow row : folderRepository.findVisibilityRowsByWorkspaceId(workspaceId)) {
+                folderRowMap.put(row.folderId(), row);
+            }
+            for (PostVisibilityRow row : postRepository.findVisibilityRowsByWorkspaceId(workspaceId)) {
+                FolderVisibilityRow folderRow = row.folderId() != null ? folderRowMap.get(row.folderId()) : null;
+                if (isPostVisible(workspace, row.isPublic(), row.isExcluded(), folderRow, folderRowMap)) {
+                    visible.add(row.postId());
+                }
+            }
+        }
+
+        Set<Long> indexed = new HashSet<>(publicPostRepository.findPostIdsByWorkspaceId(workspaceId));
+
+        Set<Long> toDelete = new HashSet<>(indexed);
+        toDelete.removeAll(visible);
+        Set<Long> toInsert = new HashSet<>(visible);
+        toInsert.removeAll(indexed);
+
+        if (!toDelete.isEmpty()) {
+            publicPostRepository.deletePostIds(workspaceId, toDelete);
+        }
+        if (!toInsert.isEmpty()) {
+            publicPostRepository.insertPostIds(workspaceId, toInsert);
+        }
+
+        // 공개 여부가 바뀐 게시글은 커밋 후 공개 캐시에서 evict
+        if (!toDelete.isEmpty() || !toInsert.isEmpty()) {
+            Set<Long> changed = new HashSet<>(toDelete);
+            changed.addAll(toInsert);
+            eventPublisher.publishEvent(new PublicContentChangedEvent(workspaceId, changed));
+        }
+    }
+
+    /**
+     * 트리 구조 변경 시 같은 트랜잭션 안에서 다시 계산
+     * - 이벤트를 발행한 트랜잭션이 아직 열려 있으므로 그 안에서 실행 (리스너에는 @Transactional 을 붙이지 않음)
+     * - 제목/정렬만 바뀐(UPDATED) 변경은 공개 여부와 무관하므로 건너뜀
+     * - 게시글 삭제는 FK CASCADE 로 인덱스에서도 빠지지만, 폴더 삭제/이동으로 상속이 바뀔 수 있어 함께 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTreeChanged(WorkspaceTreeChangedEvent event) {
+        boolean structural = event.changes().stream()
+                .anyMatch(change -> change.changeType() != TreeChangeType.UPDATED);
+        if (structural) {
+            rebuild(event.workspaceId());
+        }
+    }
+
+    // ────────────────────────────────────────────────
+    // Private helpers
+    // ────────────────────────────────────────────────
+
+    /**
+     * 특정 게시글이 공개 상태인지 확인
+     * - folder: 게시글이 속한 폴더 (루트면 null)
+     */
+    private boolean isPostVisible(Workspace workspace, Boolean isPublic, Boolean isExcluded,
+                                  FolderVisibilityRow folder, Map<Long, FolderVisibilityRow> folderMap) {
+        if (Boolean.TRUE.equals(workspace.getPublishAll())) {
+            return !Boolean.TRUE.equals(isExcluded);
+        }
+
+        if (folder == null) {
+            return Boolean.TRUE.equals(isPublic);
+        }
+
+        if (isFolderPublishAll(folder, folderMap)) {
+            return !Boolean.TRUE.equals(isExcluded);
+        }
+
+        return Boolean.TRUE.equals(isPublic);
+    }
+
+    /**
+     * 해당 폴더 또는 상위 폴더가 전체공개인지 확인
+     * - 부모를 타고 올라가지 않고 경로의 조상 ID로 바로 조회
+     */
+    private boolean isFolderPublishAll(FolderVisibilityRow folder, Map<Long, FolderVisibilityRow> folderMap) {
+        for (Long ancestorId : Folder.parsePathIds(folder.path())) {
+            FolderVisibilityRow ancestor = folderMap.get(ancestorId);
+            if (ancestor != null && Boolean.TRUE.equals(ancestor.publishAll())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
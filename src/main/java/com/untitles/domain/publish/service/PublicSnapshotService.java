@@ -0,0 +1,224 @@
+package com.untitles.domain.publish.service;
+
+import com.untitles.domain.folder.entity.TreeNodeType;
+import com.untitles.domain.folder.event.TreeNodeChange;
+import com.untitles.domain.folder.event.WorkspaceTreeChangedEvent;
+import com.untitles.domain.publish.dto.query.PublicContentState;
+import com.untitles.domain.publish.event.PublicContentChangedEvent;
+import com.untitles.domain.workspace.repository.WorkspaceRepository;
+import com.untitles.global.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * 공개 페이지 스냅샷
+ * - 공개 트리 / 공개 게시글 응답을 gzip JSON 파일로 만들어 두고 파일을 그대로 전송 (JPA, Jackson 을 거치지 않음)
+ * - Tomcat sendfile 을 지원하면 파일 경로만 넘겨 커널에서 전송, 아니면 FileChannel.transferTo
+ * - 변경이 커밋되면 바뀐 트리/게시글 스냅샷만 다시 생성, 없는 스냅샷은 첫 조회 때 생성
+ * - gzip 응답은 일반 응답과 다른 표현이므로 ETag 에 GZIP_ETAG_SUFFIX 를 붙임 (파일명은 원래 ETag)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PublicSnapshotService {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private final PublicViewService publicViewService;
+    private final PublicSnapshotStore publicSnapshotStore;
+    private final WorkspaceRepository workspaceRepository;
+
+    @Value("${app.public-snapshot.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 이 요청에 보낼 표현의 ETag (스냅샷을 보낼 요청이면 gzip ETag) - 304 비교 전에 결정
+     */
+    public String eTag(PublicContentState state, HttpServletRequest request) {
+        return acceptsSnapshot(request) ? state.eTag() + GZIP_ETAG_SUFFIX : state.eTag();
+    }
+
+    /**
+     * 공개 트리 스냅샷 전송 (gzip 을 받지 않는 클라이언트면 false → 일반 응답)
+     */
+    public boolean sendWorkspace(String slug, PublicContentState state,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!acceptsSnapshot(request)) {
+            return false;
+        }
+        Path file = publicSnapshotStore.findWorkspace(slug, state.eTag());
+        if (file == null) {
+            file = publicSnapshotStore.writeWorkspace(slug, state.eTag(),
+                    publicViewService.getPublicWorkspace(slug, state));
+        }
+        send(file, state.eTag() + GZIP_ETAG_SUFFIX, request, response);
+        return true;
+    }
+
+    /**
+     * 공개 게시글 스냅샷 전송 (공개 여부는 state 조회 시 이미 확인)
+     */
+    public boolean sendPost(String slug, Long postId, PublicContentState state,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!acceptsSnapshot(request)) {
+            return false;
+        }
+        Path file = publicSnapshotStore.findPost(slug, postId, state.eTag());
+        if (file == null) {
+            file = publicSnapshotStore.writePost(slug, postId, state.eTag(),
+                    publicViewService.getPublicPost(slug, postId, state));
+        }
+        send(file, state.eTag() + GZIP_ETAG_SUFFIX, request, response);
+        return true;
+    }
+
+    /**
+     * 트리 변경 커밋 후 - 공개 트리 + 변경된 게시글 스냅샷 재생성
+     */
+    @Async("publicSnapshotTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTreeChanged(WorkspaceTreeChangedEvent event) {
+        regenerate(event.workspaceId(), event.changes().stream()
+                .filter(change -> change.nodeType() == TreeNodeType.POST)
+                .map(TreeNodeChange::nodeId)
+                .toList());
+    }
+
+    /**
+     * 공개 설정 / 워크스페이스 정보 변경 커밋 후 - 공개 트리 + 공개 여부가 바뀐 게시글 스냅샷 재생성
+     */
+    @Async("publicSnapshotTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPublicContentChanged(PublicContentChangedEvent event) {
+        regenerate(event.workspaceId(), event.postIds());
+    }
+
+    // ────────────────────────────────────────────────
+    // Private helpers
+    // ────────────────────────────────────────────────
+
+    private void regenerate(Long workspaceId, Collection<Long> postIds) {
+        if (!enabled) {
+            return;
+        }
+        String slug = workspaceRepository.findPublicSlugByWorkspaceId(workspaceId).orElse(null);
+        if (slug == null) {
+            return;
+        }
+
+        try {
+            PublicContentState state = publicViewService.getWorkspaceState(slug);
+            publicSnapshotStore.retireWorkspace(slug, state.eTag());
+            if (publicSnapshotStore.findWorkspace(slug, state.eTag()) == null) {
+                publicSnapshotStore.writeWorkspace(slug, state.eTag(), publicViewService.getPublicWorkspace(slug, state));
+            }
+        } catch (BusinessException e) {
+            // 공개 게시글이 없어짐 → 이전 스냅샷만 정리
+            publicSnapshotStore.retireWorkspace(slug, null);
+        } catch (IOException e) {
+            log.warn("공개 트리 스냅샷 생성 실패 slug={}: {}", slug, e.getMessage());
+        }
+
+        for (Long postId : postIds) {
+            try {
+                PublicContentState state = publicViewService.getPostState(slug, postId);
+                publicSnapshotStore.retirePost(slug, postId, state.eTag());
+                if (publicSnapshotStore.findPost(slug, postId, state.eTag()) == null) {
+                    publicSnapshotStore.writePost(slug, postId, state.eTag(),
+                            publicViewService.getPublicPost(slug, postId, state));
+                }
+            } catch (BusinessException e) {
+                // 비공개 전환 / 삭제
+                publicSnapshotStore.retirePost(slug, postId, null);
+            } catch (IOException e) {
+                log.warn("공개 게시글 스냅샷 생성 실패 slug={}, postId={}: {}", slug, postId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean acceptsSnapshot(HttpServletRequest request) {
+        return enabled && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 q > 0 으로 허용하는지 (gzip 이 없으면 * 의 q 를 따름)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase();
+            double q = qValue(params);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? q : Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                wildcard = q;
+            }
+        }
+        Double q = gzip != null ? gzip : wildcard;
+        return q != null && q > 0;
+    }
+
+    // 잘못된 q 값은 허용하지 않은 것으로 처리
+    private static double qValue(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.length() > 1 && Character.toLowerCase(param.charAt(0)) == 'q' && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private void send(Path file, String eTag, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        long length = Files.size(file);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setHeader(HttpHeaders.ETAG, "\"" + eTag + "\"");
+        response.setContentLengthLong(length);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                position += channel.transferTo(position, length - position, out);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.untitles.domain.publish.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.untitles.global.dto.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개 페이지 스냅샷 파일 저장소 (로컬 디스크)
+ * - 응답 본문(ApiResponse 로 감싼 JSON)을 gzip 으로 미리 압축해 {dir}/{slug}/ 아래에 저장
+ * - 파일명에 ETag 를 넣어 내용이 바뀌면 새 파일 → 인스턴스마다 따로 만들어도 오래된 내용을 내주지 않음
+ * - 이전 파일은 바로 지우지 않고 delete-delay-ms 뒤에 삭제 (전송 중인 파일이 사라지지 않게)
+ */
+@Slf4j
+@Component
+public class PublicSnapshotStore {
+
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9-]+");
+    private static final String SUFFIX = ".json.gz";
+
+    private final ObjectMapper objectMapper;
+    private final Path baseDir;
+    private final long deleteDelayMs;
+    private final Queue<PendingDelete> pendingDeletes = new ConcurrentLinkedQueue<>();
+
+    public PublicSnapshotStore(ObjectMapper objectMapper,
+                               @Value("${app.public-snapshot.dir:${java.io.tmpdir}/untitles-public}") String dir,
+                               @Value("${app.public-snapshot.delete-delay-ms:30000}") long deleteDelayMs) {
+        this.objectMapper = objectMapper;
+        this.baseDir = Paths.get(dir).toAbsolutePath().normalize();
+        this.deleteDelayMs = deleteDelayMs;
+    }
+
+    public Path findWorkspace(String slug, String eTag) {
+        return find(slug, "tree-" + eTag);
+    }
+
+    public Path findPost(String slug, Long postId, String eTag) {
+        return find(slug, "post-" + postId + "-" + eTag);
+    }
+
+    public Path writeWorkspace(String slug, String eTag, Object body) throws IOException {
+        return write(slug, "tree-" + eTag, body);
+    }
+
+    public Path writePost(String slug, Long postId, String eTag, Object body) throws IOException {
+        return write(slug, "post-" + postId + "-" + eTag, body);
+    }
+
+    /**
+     * 현재 ETag 가 아닌 공개 트리 스냅샷 삭제 예약
+     */
+    public void retireWorkspace(String slug, String currentETag) {
+        retire(slug, "tree-*" + SUFFIX, "tree-" + currentETag + SUFFIX);
+    }
+
+    /**
+     * 게시글 스냅샷 삭제 예약 (currentETag 가 null 이면 전부 - 비공개 전환/삭제)
+     */
+    public void retirePost(String slug, Long postId, String currentETag) {
+        retire(slug, "post-" + postId + "-*" + SUFFIX,
+                currentETag != null ? "post-" + postId + "-" + currentETag + SUFFIX : null);
+    }
+
+    /**
+     * 예약 시간이 지난 이전 스냅샷 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.public-snapshot.delete-delay-ms:30000}")
+    public void deleteRetired() {
+        long now = System.currentTimeMillis();
+        PendingDelete pending;
+        while ((pending = pendingDeletes.peek()) != null && pending.dueAt() <= now) {
+            pendingDeletes.poll();
+            try {
+                Files.deleteIfExists(pending.path());
+            } catch (IOException e) {
+                log.warn("공개 스냅샷 삭제 실패 {}: {}", pending.path(), e.getMessage());
+            }
+        }
+    }
+
+    // ────────────────────────────────────────────────
+    // Private helpers
+    // ────────────────────────────────────────────────
+
+    private Path find(String slug, String name) {
+        Path file = resolve(slug, name + SUFFIX);
+        return file != null && Files.isRegularFile(file) ? file : null;
+    }
+
+    // 임시 파일에 다 쓴 뒤 이동 → 읽는 쪽에는 완성된 파일만 보임
+    private Path write(String slug, String name, Object body) throws IOException {
+        Path file = resolve(slug, name + SUFFIX);
+        if (file == null) {
+            throw new IOException("스냅샷 이름으로 쓸 수 없는 값: " + slug + "/" + name);
+        }
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), name, ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), 8192)) {
+                objectMapper.writeValue(out, ApiResponse.success(body));
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return file;
+    }
+
+    private void retire(String slug, String glob, String keepName) {
+        Path dir = resolve(slug, null);
+        if (dir == null || !Files.isDirectory(dir)) {
+            return;
+        }
+        long dueAt = System.currentTimeMillis() + deleteDelayMs;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, glob)) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().equals(keepName)) {
+                    pendingDeletes.add(new PendingDelete(file, dueAt));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("공개 스냅샷 목록 조회 실패 {}: {}", dir, e.getMessage());
+        }
+    }
+
+    // slug / 파일명은 영문·숫자·하이픈만 (경로 이동 방지)
+    private Path resolve(String slug, String fileName) {
+        if (slug == null || !SAFE_NAME.matcher(slug).matches()) {
+            return null;
+        }
+        Path dir = baseDir.resolve(slug);
+        if (fileName == null) {
+            return dir;
+        }
+        String name = fileName.substring(0, fileName.length() - SUFFIX.length());
+        return SAFE_NAME.matcher(name).matches() ? dir.resolve(fileName) : null;
+    }
+
+    private record PendingDelete(Path path, long dueAt) {
+    }
+}
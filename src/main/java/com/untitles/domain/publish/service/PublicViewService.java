@@ -1,25 +1,28 @@
 package com.untitles.domain.publish.service;
 
-import com.untitles.domain.folder.entity.Folder;
+import com.untitles.domain.folder.dto.query.FolderVisibilityRow;
 import com.untitles.domain.folder.repository.FolderRepository;
+import com.untitles.domain.post.dto.query.PostVisibilityRow;
 import com.untitles.domain.post.dto.response.PostSimpleDTO;
 import com.untitles.domain.post.entity.Post;
+import com.untitles.domain.post.repository.PostContentRepository;
 import com.untitles.domain.post.repository.PostRepository;
+import com.untitles.domain.publish.dto.query.PublicContentState;
 import com.untitles.domain.publish.dto.response.PublicWorkspaceResponse;
 import com.untitles.domain.publish.dto.response.PublicWorkspaceResponse.PublicFolderItem;
+import com.untitles.domain.publish.repository.PublicPostRepository;
 import com.untitles.domain.workspace.entity.Workspace;
 import com.untitles.domain.workspace.repository.WorkspaceRepository;
 import com.untitles.global.exception.BusinessException;
 import com.untitles.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 
 @Service
@@ -29,55 +32,97 @@ public class PublicViewService {
     private final WorkspaceRepository workspaceRepository;
     private final FolderRepository folderRepository;
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
+    private final PublicPostRepository publicPostRepository;
+    private final PublicContentCache publicContentCache;
+
+    /**
+     * 공개 워크스페이스 revision (ETag, 캐시 키) - 쿼리 한 번
+     */
+    public PublicContentState getWorkspaceState(String slug) {
+        return workspaceRepository.findPublicContentState(slug)
+                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
+    }
+
+    /**
+     * 공개 게시글 revision (본문/작성자를 읽지 않고 공개 인덱스 + version 만)
+     */
+    public PublicContentState getPostState(String slug, Long postId) {
+        PublicContentState state = getWorkspaceState(slug);
+        // 게시글 version 은 상위 폴더 공개 변경을 반영하지 않으므로 공개 여부를 먼저 확인
+        checkPublic(postId, state.workspaceId());
+        Long version = postRepository.findVersion(postId, state.workspaceId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        return state.withPost(postId, version);
+    }
 
     /**
      * 공개 워크스페이스 조회 (비로그인)
      * - 내부용 /workspaces/{workspaceId}/folders 와 동일한 흐름
-     *   ① 루트 폴더 조회 + Lazy Loading (children/posts)
-     *   ② 루트 게시글 조회 (폴더 없는 공개 게시글)
-     * - 공개 설정 판단은 폴더/게시글의 publishAll, isPublic, isExcluded 필드로 처리
+     *   ① 폴더/공개 게시글을 프로젝션으로 평면 조회 (게시글 content 는 읽지 않음)
+     *   ② id Map 으로 트리 연결
+     * - 공개 여부는 쓰기 시점에 계산해 둔 공개 게시글 인덱스(public_post)로 판단
      */
-    //캐시 키:slug
+    // 캐시: slug 키에 ETag 와 함께 저장, ETag 가 같을 때만 사용 (PublicContentCache)
     @Transactional(readOnly = true)
-    @Cacheable(value = "publicWorkspace", key="#slug")
-    public PublicWorkspaceResponse getPublicWorkspace(String slug) {
-        Workspace workspace = workspaceRepository.findByPublicSlug(slug)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
+    public PublicWorkspaceResponse getPublicWorkspace(String slug, PublicContentState state) {
+        return publicContentCache.getWorkspace(slug, state.eTag(), () -> buildPublicWorkspace(slug));
+    }
 
-        // 공개 판단에 필요한 폴더 Map (publishAll 체크용)
-        Map<Long, Folder> folderMap = folderRepository
-                .findAllByWorkspaceWorkspaceId(workspace.getWorkspaceId())
-                .stream()
-                .collect(Collectors.toMap(Folder::getFolderId, f -> f));
+    /**
+     * 공개 게시글 상세 조회 (비로그인)
+     */
+    // 캐시: slug:postId 키에 ETag 와 함께 저장 (공개 여부는 getPostState 에서 이미 확인)
+    @Transactional(readOnly = true)
+    public PublicWorkspaceResponse.PublicPostDetail getPublicPost(String slug, Long postId, PublicContentState state) {
+        return publicContentCache.getPost(slug, postId, state.eTag(),
+                () -> buildPublicPost(postId, state.workspaceId()));
+    }
 
-        // 공개 게시글 ID Set
-        List<Post> allPosts = postRepository
-                .findAllWithAuthorByWorkspaceWorkspaceId(workspace.getWorkspaceId());
+    // ────────────────────────────────────────────────
+    // Private helpers
+    // ────────────────────────────────────────────────
 
-        Set<Long> visiblePostIds = allPosts.stream()
-                .filter(post -> isPostVisible(post, workspace, folderMap))
-                .map(Post::getPostId)
-                .collect(Collectors.toSet());
+    private PublicWorkspaceResponse buildPublicWorkspace(String slug) {
+        Workspace workspace = workspaceRepository.findByPublicSlug(slug)
+                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
 
-        if (visiblePostIds.isEmpty()) {
+        List<PostVisibilityRow> postRows = postRepository
+                .findPublicRowsByWorkspaceId(workspace.getWorkspaceId());
+        if (postRows.isEmpty()) {
             throw new BusinessException(ErrorCode.PUBLIC_CONTENT_NOT_FOUND);
         }
 
-        // 루트 폴더 조회 → Lazy Loading으로 children/posts 트리 구성 (내부용과 동일한 방식)
-        List<Folder> rootFolders = folderRepository
-                .findByWorkspaceWorkspaceIdAndParentIsNull(workspace.getWorkspaceId());
+        List<FolderVisibilityRow> folderRows = folderRepository
+                .findVisibilityRowsByWorkspaceId(workspace.getWorkspaceId());
 
-        List<PublicFolderItem> folderTree = rootFolders.stream()
-                .map(folder -> PublicFolderItem.from(folder, visiblePostIds))
-                .collect(Collectors.toList());
+        Map<Long, PublicFolderItem> folderItemMap = new HashMap<>();
+        for (FolderVisibilityRow row : folderRows) {
+            folderItemMap.put(row.folderId(), PublicFolderItem.from(row));
+        }
 
-        // 루트 게시글 (폴더 없는 공개 게시글)
-        List<PostSimpleDTO> rootPosts = postRepository
-                .findByWorkspaceWorkspaceIdAndFolderIsNull(workspace.getWorkspaceId())
-                .stream()
-                .filter(p -> visiblePostIds.contains(p.getPostId()))
-                .map(PostSimpleDTO::from)
-                .collect(Collectors.toList());
+        // 부모가 없으면 루트 폴더 (조회 순서 = 정렬 키 순서)
+        List<PublicFolderItem> folderTree = new ArrayList<>();
+        for (FolderVisibilityRow row : folderRows) {
+            PublicFolderItem node = folderItemMap.get(row.folderId());
+            PublicFolderItem parent = row.parentId() != null ? folderItemMap.get(row.parentId()) : null;
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else {
+                folderTree.add(node);
+            }
+        }
+
+        // 공개 게시글을 폴더/루트에 배치
+        List<PostSimpleDTO> rootPosts = new ArrayList<>();
+        for (PostVisibilityRow row : postRows) {
+            PublicFolderItem folder = row.folderId() != null ? folderItemMap.get(row.folderId()) : null;
+            if (folder != null) {
+                folder.getPosts().add(PostSimpleDTO.from(row));
+            } else {
+                rootPosts.add(PostSimpleDTO.from(row));
+            }
+        }
 
         return PublicWorkspaceResponse.of(
                 workspace.getName(),
@@ -86,77 +131,28 @@ public class PublicViewService {
                 rootPosts);
     }
 
-    /**
-     * 공개 게시글 상세 조회 (비로그인)
-     */
-    //캐시 키: slug + postId 조합
-    @Transactional(readOnly = true)
-    @Cacheable (value = "publicPost", key = "#slug + ':'+ #postId")
-    public PublicWorkspaceResponse.PublicPostDetail getPublicPost(String slug, Long postId) {
-        Workspace workspace = workspaceRepository.findByPublicSlug(slug)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
+    private PublicWorkspaceResponse.PublicPostDetail buildPublicPost(Long postId, Long workspaceId) {
+        checkPublic(postId, workspaceId);
 
         Post post = postRepository
-                .findWithAuthorByPostIdAndWorkspaceWorkspaceId(postId, workspace.getWorkspaceId())
+                .findWithAuthorByPostIdAndWorkspaceWorkspaceId(postId, workspaceId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
-        Map<Long, Folder> folderMap = folderRepository
-                .findAllByWorkspaceWorkspaceId(workspace.getWorkspaceId())
-                .stream()
-                .collect(Collectors.toMap(Folder::getFolderId, f -> f));
-
-        if (!isPostVisible(post, workspace, folderMap)) {
-            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
-        }
-
         return PublicWorkspaceResponse.PublicPostDetail.builder()
                 .postId(post.getPostId())
                 .title(post.getTitle())
-                .content(post.getContent())
+                .content(postContentRepository.findContentByPostId(postId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND)))
                 .authorNickname(post.getAuthor().getNickname())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
     }
 
-    // ────────────────────────────────────────────────
-    // Private helpers
-    // ────────────────────────────────────────────────
-
-    /**
-     * 특정 게시글이 공개 상태인지 확인
-     */
-    private boolean isPostVisible(Post post, Workspace workspace, Map<Long, Folder> folderMap) {
-        if (Boolean.TRUE.equals(workspace.getPublishAll())) {
-            return !Boolean.TRUE.equals(post.getIsExcluded());
-        }
-
-        if (post.getFolder() == null) {
-            return Boolean.TRUE.equals(post.getIsPublic());
-        }
-
-        // post.getFolder()는 Lazy 프록시이므로 folderMap에서 꺼낸 객체로 교체
-        Folder folder = folderMap.get(post.getFolder().getFolderId());
-        if (isFolderPublishAll(folder, folderMap)) {
-            return !Boolean.TRUE.equals(post.getIsExcluded());
-        }
-
-        return Boolean.TRUE.equals(post.getIsPublic());
-    }
-
-    /**
-     * 해당 폴더 또는 상위 폴더가 전체공개인지 확인
-     */
-    private boolean isFolderPublishAll(Folder folder, Map<Long, Folder> folderMap) {
-        Folder current = folder;
-        while (current != null) {
-            if (Boolean.TRUE.equals(current.getPublishAll())) {
-                return true;
-            }
-            current = current.getParent() != null
-                    ? folderMap.get(current.getParent().getFolderId())
-                    : null;
+    // 공개 게시글 인덱스에 없으면 비공개 게시글과 같은 응답 (존재 여부를 드러내지 않음)
+    private void checkPublic(Long postId, Long workspaceId) {
+        if (!publicPostRepository.existsByPostIdAndWorkspaceId(postId, workspaceId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
         }
-        return false;
     }
 }
@@ -1,8 +1,8 @@
 package com.untitles.domain.publish.service;
 
-import com.untitles.domain.folder.entity.Folder;
+import com.untitles.domain.folder.dto.query.FolderVisibilityRow;
 import com.untitles.domain.folder.repository.FolderRepository;
-import com.untitles.domain.post.entity.Post;
+import com.untitles.domain.post.dto.query.PostVisibilityRow;
 import com.untitles.domain.post.repository.PostRepository;
 import com.untitles.domain.publish.dto.request.WorkspacePublishRequest;
 import com.untitles.domain.publish.dto.response.PublishSettingResponse;
@@ -13,16 +13,18 @@ import com.untitles.domain.workspace.entity.WorkspaceMember;
 import com.untitles.domain.workspace.entity.WorkspaceRole;
 import com.untitles.domain.workspace.repository.WorkspaceMemberRepository;
 import com.untitles.domain.workspace.repository.WorkspaceRepository;
+import com.untitles.domain.workspace.repository.WorkspaceRevisionRepository;
 import com.untitles.global.exception.BusinessException;
 import com.untitles.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -38,6 +40,8 @@ public class PublishService {
     private final UserRepository userRepository;
     private final FolderRepository folderRepository;
     private final PostRepository postRepository;
+    private final WorkspaceRevisionRepository workspaceRevisionRepository;
+    private final PublicPostIndexService publicPostIndexService;
 
     /**
      * 공개 설정 조회 (트리 구조로 현재 상태 반환)
@@ -48,19 +52,33 @@ public class PublishService {
         checkAdminPermission(member);
 
         Workspace workspace = member.getWorkspace();
-        List<Folder> allFolders = folderRepository.findAllByWorkspaceWorkspaceId(workspaceId);
-        List<Post> allPosts = postRepository.findAllWithAuthorByWorkspaceWorkspaceId(workspaceId);
+        // content 없이 프로젝션으로 조회
+        List<FolderVisibilityRow> folderRows = folderRepository.findVisibilityRowsByWorkspaceId(workspaceId);
+        List<PostVisibilityRow> postRows = postRepository.findVisibilityRowsByWorkspaceId(workspaceId);
+
+        // 부모/폴더 id 기준으로 한 번만 묶어서 트리 구성 (폴더마다 전체 목록을 다시 훑지 않음)
+        Map<Long, List<FolderVisibilityRow>> childrenByParent = new HashMap<>();
+        List<FolderVisibilityRow> rootFolderRows = new ArrayList<>();
+        for (FolderVisibilityRow row : folderRows) {
+            if (row.parentId() == null) {
+                rootFolderRows.add(row);
+            } else {
+                childrenByParent.computeIfAbsent(row.parentId(), k -> new ArrayList<>()).add(row);
+            }
+        }
 
-        // 루트 게시글 (폴더 없는)
-        List<PublishSettingResponse.PostPublishInfo> rootPosts = allPosts.stream()
-                .filter(p -> p.getFolder() == null)
-                .map(this::toPostPublishInfo)
-                .toList();
+        Map<Long, List<PublishSettingResponse.PostPublishInfo>> postsByFolder = new HashMap<>();
+        List<PublishSettingResponse.PostPublishInfo> rootPosts = new ArrayList<>();
+        for (PostVisibilityRow row : postRows) {
+            if (row.folderId() == null) {
+                rootPosts.add(toPostPublishInfo(row));
+            } else {
+                postsByFolder.computeIfAbsent(row.folderId(), k -> new ArrayList<>()).add(toPostPublishInfo(row));
+            }
+        }
 
-        // 루트 폴더부터 트리 구성
-        List<PublishSettingResponse.FolderPublishInfo> rootFolders = allFolders.stream()
-                .filter(f -> f.getParent() == null)
-                .map(f -> buildFolderTree(f, allFolders, allPosts))
+        List<PublishSettingResponse.FolderPublishInfo> rootFolders = rootFolderRows.stream()
+                .map(f -> buildFolderTree(f, childrenByParent, postsByFolder))
                 .toList();
 
         return PublishSettingResponse.builder()
@@ -76,12 +94,10 @@ public class PublishService {
 
     /**
      * 공개 설정 저장
+     * - publish revision 증가 → 공개 페이지 ETag/캐시 키가 바뀌어 이전 캐시는 더 이상 조회되지 않음
+     * - 공개 게시글 인덱스도 같은 트랜잭션에서 갱신
      */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "publicWorkspace", key = "#result.publicSlug"),
-            @CacheEvict(value = "publicPost", allEntries = true)
-    })
     public PublishSettingResponse updatePublishSettings(Long userId, Long workspaceId,
                                                         WorkspacePublishRequest request) {
         WorkspaceMember member = getMemberOrThrow(userId, workspaceId);
@@ -98,6 +114,7 @@ public class PublishService {
         }
 
         workspaceRepository.save(workspace);
+        workspaceRevisionRepository.increasePublishRevision(workspaceId);
 
         // 2. 워크스페이스 전체공개면 개별 설정은 무시 (제외만 처리 가능)
         if (Boolean.TRUE.equals(request.getPublishAll())) {
@@ -108,139 +125,148 @@ public class PublishService {
             handleIndividualPublish(workspaceId, request);
         }
 
+        // 3. 공개 게시글 인덱스 재계산 (같은 트랜잭션)
+        publicPostIndexService.rebuild(workspaceId);
+
         return getPublishSettings(userId, workspaceId);
     }
 
     /**
      * 워크스페이스 전체공개 모드 - 제외할 게시글만 처리
+     * - 현재 플래그와 비교해 바뀌는 게시글만 일괄 UPDATE (나머지 행은 건드리지 않음)
      */
     private void handleWorkspacePublishAll(Long workspaceId,
                                             WorkspacePublishRequest request) {
-        // 모든 게시글 제외 해제
-        List<Post> allPosts = postRepository.findAllWithAuthorByWorkspaceWorkspaceId(workspaceId);
-        allPosts.forEach(p -> p.updateIsExcluded(false));
-
-        // 루트 게시글 제외 설정
-        if (request.getExcludedRootPostIds() != null) {
-            Set<Long> excludedRootIds = new HashSet<>(request.getExcludedRootPostIds());
-            allPosts.stream()
-                    .filter(p -> p.getFolder() == null && excludedRootIds.contains(p.getPostId()))
-                    .forEach(p -> p.updateIsExcluded(true));
-        }
-
-        // 폴더별 제외 설정
+        // 루트 / 폴더별 제외 대상 (해당 위치에 있는 게시글만 적용)
+        Set<Long> excludedRootIds = toSet(request.getExcludedRootPostIds());
+        Map<Long, Set<Long>> excludedByFolder = new HashMap<>();
         if (request.getFolders() != null) {
             for (WorkspacePublishRequest.FolderPublishItem folderItem : request.getFolders()) {
-                if (folderItem.getExcludedPostIds() != null) {
-                    Set<Long> excludedIds = new HashSet<>(folderItem.getExcludedPostIds());
-                    allPosts.stream()
-                            .filter(p -> p.getFolder() != null
-                                    && p.getFolder().getFolderId().equals(folderItem.getFolderId())
-                                    && excludedIds.contains(p.getPostId()))
-                            .forEach(p -> p.updateIsExcluded(true));
-                }
+                excludedByFolder.computeIfAbsent(folderItem.getFolderId(), k -> new HashSet<>())
+                        .addAll(toSet(folderItem.getExcludedPostIds()));
             }
         }
 
-        postRepository.saveAll(allPosts);
+        List<Long> toExclude = new ArrayList<>();
+        List<Long> toInclude = new ArrayList<>();
+        for (PostVisibilityRow post : postRepository.findVisibilityRowsByWorkspaceId(workspaceId)) {
+            Set<Long> excludedIds = post.folderId() == null
+                    ? excludedRootIds
+                    : excludedByFolder.getOrDefault(post.folderId(), Set.of());
+            collectChange(post.postId(), post.isExcluded(), excludedIds.contains(post.postId()), toExclude, toInclude);
+        }
+
+        updateIsExcluded(workspaceId, toExclude, toInclude);
     }
 
     /**
      * 개별 공개 모드 - 폴더/게시글 각각 설정
+     * - 요청에 없는 폴더/게시글은 비공개, 현재 플래그와 다른 행만 일괄 UPDATE
      */
     private void handleIndividualPublish(Long workspaceId,
                                           WorkspacePublishRequest request) {
-        // 모든 게시글/폴더 초기화
-        List<Post> allPosts = postRepository.findAllWithAuthorByWorkspaceWorkspaceId(workspaceId);
-        List<Folder> allFolders = folderRepository.findAllByWorkspaceWorkspaceId(workspaceId);
-
-        allPosts.forEach(p -> {
-            p.updateIsPublic(false);
-            p.updateIsExcluded(false);
-        });
-        allFolders.forEach(f -> f.updatePublishAll(false));
-
-        // 루트 게시글 공개 설정
-        if (request.getPublicPostIds() != null) {
-            Set<Long> publicRootPostIds = new HashSet<>(request.getPublicPostIds());
-            allPosts.stream()
-                    .filter(p -> p.getFolder() == null && publicRootPostIds.contains(p.getPostId()))
-                    .forEach(p -> p.updateIsPublic(true));
-        }
-
-        // 폴더별 설정
+        List<FolderVisibilityRow> folderRows = folderRepository.findVisibilityRowsByWorkspaceId(workspaceId);
+        Set<Long> workspaceFolderIds = new HashSet<>();
+        folderRows.forEach(f -> workspaceFolderIds.add(f.folderId()));
+
+        // 요청 → 원하는 상태 (워크스페이스에 없는 폴더는 무시)
+        Set<Long> publicRootPostIds = toSet(request.getPublicPostIds());
+        Set<Long> publishAllFolderIds = new HashSet<>();
+        Map<Long, Set<Long>> excludedByFolder = new HashMap<>();
+        Map<Long, Set<Long>> publicByFolder = new HashMap<>();
         if (request.getFolders() != null) {
             for (WorkspacePublishRequest.FolderPublishItem folderItem : request.getFolders()) {
-                Folder folder = allFolders.stream()
-                        .filter(f -> f.getFolderId().equals(folderItem.getFolderId()))
-                        .findFirst()
-                        .orElse(null);
-
-                if (folder == null) continue;
+                Long folderId = folderItem.getFolderId();
+                if (!workspaceFolderIds.contains(folderId)) continue;
 
                 if (Boolean.TRUE.equals(folderItem.getPublishAll())) {
-                    // 폴더 전체공개
-                    folder.updatePublishAll(true);
-
-                    // 제외 처리
-                    if (folderItem.getExcludedPostIds() != null) {
-                        Set<Long> excludedIds = new HashSet<>(folderItem.getExcludedPostIds());
-                        allPosts.stream()
-                                .filter(p -> p.getFolder() != null
-                                        && p.getFolder().getFolderId().equals(folder.getFolderId())
-                                        && excludedIds.contains(p.getPostId()))
-                                .forEach(p -> p.updateIsExcluded(true));
-                    }
+                    // 폴더 전체공개 + 제외 처리
+                    publishAllFolderIds.add(folderId);
+                    excludedByFolder.computeIfAbsent(folderId, k -> new HashSet<>())
+                            .addAll(toSet(folderItem.getExcludedPostIds()));
                 } else {
                     // 개별 게시글 공개
-                    if (folderItem.getPublicPostIds() != null) {
-                        Set<Long> publicIds = new HashSet<>(folderItem.getPublicPostIds());
-                        allPosts.stream()
-                                .filter(p -> p.getFolder() != null
-                                        && p.getFolder().getFolderId().equals(folder.getFolderId())
-                                        && publicIds.contains(p.getPostId()))
-                                .forEach(p -> p.updateIsPublic(true));
-                    }
+                    publicByFolder.computeIfAbsent(folderId, k -> new HashSet<>())
+                            .addAll(toSet(folderItem.getPublicPostIds()));
                 }
             }
         }
 
-        folderRepository.saveAll(allFolders);
-        postRepository.saveAll(allPosts);
+        // 폴더 전체공개 변경분
+        List<Long> foldersOn = new ArrayList<>();
+        List<Long> foldersOff = new ArrayList<>();
+        for (FolderVisibilityRow folder : folderRows) {
+            collectChange(folder.folderId(), folder.publishAll(),
+                    publishAllFolderIds.contains(folder.folderId()), foldersOn, foldersOff);
+        }
+
+        // 게시글 공개/제외 변경분
+        List<Long> toPublic = new ArrayList<>();
+        List<Long> toPrivate = new ArrayList<>();
+        List<Long> toExclude = new ArrayList<>();
+        List<Long> toInclude = new ArrayList<>();
+        for (PostVisibilityRow post : postRepository.findVisibilityRowsByWorkspaceId(workspaceId)) {
+            Long postId = post.postId();
+            boolean isPublic = post.folderId() == null
+                    ? publicRootPostIds.contains(postId)
+                    : publicByFolder.getOrDefault(post.folderId(), Set.of()).contains(postId);
+            boolean isExcluded = post.folderId() != null
+                    && excludedByFolder.getOrDefault(post.folderId(), Set.of()).contains(postId);
+            collectChange(postId, post.isPublic(), isPublic, toPublic, toPrivate);
+            collectChange(postId, post.isExcluded(), isExcluded, toExclude, toInclude);
+        }
+
+        if (!foldersOn.isEmpty()) folderRepository.updatePublishAll(workspaceId, foldersOn, true);
+        if (!foldersOff.isEmpty()) folderRepository.updatePublishAll(workspaceId, foldersOff, false);
+        if (!toPublic.isEmpty()) postRepository.updateIsPublic(workspaceId, toPublic, true);
+        if (!toPrivate.isEmpty()) postRepository.updateIsPublic(workspaceId, toPrivate, false);
+        updateIsExcluded(workspaceId, toExclude, toInclude);
     }
 
     // === 헬퍼 메서드 ===
 
-    private PublishSettingResponse.FolderPublishInfo buildFolderTree(
-            Folder folder, List<Folder> allFolders, List<Post> allPosts) {
+    // 현재 값과 원하는 값이 다를 때만 on/off 목록에 추가
+    private void collectChange(Long id, Boolean current, boolean desired, List<Long> on, List<Long> off) {
+        if (Boolean.TRUE.equals(current) == desired) {
+            return;
+        }
+        (desired ? on : off).add(id);
+    }
 
-        List<PublishSettingResponse.PostPublishInfo> posts = allPosts.stream()
-                .filter(p -> p.getFolder() != null
-                        && p.getFolder().getFolderId().equals(folder.getFolderId()))
-                .map(this::toPostPublishInfo)
-                .toList();
+    private void updateIsExcluded(Long workspaceId, List<Long> toExclude, List<Long> toInclude) {
+        if (!toExclude.isEmpty()) postRepository.updateIsExcluded(workspaceId, toExclude, true);
+        if (!toInclude.isEmpty()) postRepository.updateIsExcluded(workspaceId, toInclude, false);
+    }
+
+    private Set<Long> toSet(List<Long> ids) {
+        return ids != null ? new HashSet<>(ids) : Set.of();
+    }
+
+    private PublishSettingResponse.FolderPublishInfo buildFolderTree(
+            FolderVisibilityRow folder,
+            Map<Long, List<FolderVisibilityRow>> childrenByParent,
+            Map<Long, List<PublishSettingResponse.PostPublishInfo>> postsByFolder) {
 
-        List<PublishSettingResponse.FolderPublishInfo> children = allFolders.stream()
-                .filter(f -> f.getParent() != null
-                        && f.getParent().getFolderId().equals(folder.getFolderId()))
-                .map(f -> buildFolderTree(f, allFolders, allPosts))
+        List<PublishSettingResponse.FolderPublishInfo> children = childrenByParent
+                .getOrDefault(folder.folderId(), List.of()).stream()
+                .map(f -> buildFolderTree(f, childrenByParent, postsByFolder))
                 .toList();
 
         return PublishSettingResponse.FolderPublishInfo.builder()
-                .folderId(folder.getFolderId())
-                .name(folder.getName())
-                .publishAll(folder.getPublishAll())
-                .posts(posts)
+                .folderId(folder.folderId())
+                .name(folder.name())
+                .publishAll(folder.publishAll())
+                .posts(postsByFolder.getOrDefault(folder.folderId(), List.of()))
                 .children(children)
                 .build();
     }
 
-    private PublishSettingResponse.PostPublishInfo toPostPublishInfo(Post post) {
+    private PublishSettingResponse.PostPublishInfo toPostPublishInfo(PostVisibilityRow post) {
         return PublishSettingResponse.PostPublishInfo.builder()
-                .postId(post.getPostId())
-                .title(post.getTitle())
-                .isPublic(post.getIsPublic())
-                .isExcluded(post.getIsExcluded())
+                .postId(post.postId())
+                .title(post.title())
+                .isPublic(post.isPublic())
+                .isExcluded(post.isExcluded())
                 .build();
     }
 
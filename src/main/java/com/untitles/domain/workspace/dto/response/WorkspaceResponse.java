@@ -29,7 +29,7 @@ public record WorkspaceResponse(
 
         LocalDateTime createdAt
 ) {
-    public static WorkspaceResponse from(Workspace workspace, WorkspaceRole myRole) {
+    public static WorkspaceResponse from(Workspace workspace, WorkspaceRole myRole, int folderLimit, int postLimit) {
         return WorkspaceResponse.builder()
                 .workspaceId(workspace.getWorkspaceId())
                 .name(workspace.getName())
@@ -39,9 +39,9 @@ public record WorkspaceResponse(
                 .memberCount(workspace.getMembers().size())
                 .memberLimit(5)
                 .folderCount(workspace.getFolders().size())
-                .folderLimit(20)
+                .folderLimit(folderLimit)
                 .postCount(workspace.getPosts().size())
-                .postLimit(50)
+                .postLimit(postLimit)
                 .createdAt(workspace.getCreatedAt())
                 .build();
     }
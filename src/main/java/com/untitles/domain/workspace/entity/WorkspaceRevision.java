@@ -0,0 +1,30 @@
+package com.untitles.domain.workspace.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 워크스페이스별 revision 카운터
+ * - Workspace 엔티티와 분리: Workspace 저장 시 오래된 값으로 덮어쓰지 않도록
+ *   증가는 WorkspaceRevisionRepository 의 upsert 쿼리로만 수행
+ */
+@Entity
+@Table(name = "workspace_revision")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WorkspaceRevision {
+
+    @Id
+    @Column(name = "workspace_id")
+    private Long workspaceId;
+
+    // 폴더/게시글 트리가 바뀔 때마다 1 증가
+    @Column(name = "tree_revision", nullable = false)
+    private Long treeRevision;
+
+    // 공개 설정/워크스페이스 이름·설명이 바뀔 때마다 1 증가
+    @Column(name = "publish_revision", nullable = false)
+    private Long publishRevision;
+}
@@ -1,5 +1,6 @@
 package com.untitles.domain.workspace.repository;
 
+import com.untitles.domain.publish.dto.query.PublicContentState;
 import com.untitles.domain.workspace.entity.Workspace;
 import com.untitles.domain.workspace.entity.WorkspaceRole;
 import com.untitles.domain.workspace.entity.WorkspaceType;
@@ -14,4 +15,15 @@ public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
 
     Optional<Workspace> findByPublicSlug(String publicSlug);
     boolean existsByPublicSlug(String publicSlug);
+
+    // 공개 페이지 ETag 용 revision (revision 행이 없으면 0)
+    @Query("SELECT new com.untitles.domain.publish.dto.query.PublicContentState(" +
+            "w.workspaceId, COALESCE(r.publishRevision, 0L), COALESCE(r.treeRevision, 0L)) " +
+            "FROM Workspace w LEFT JOIN WorkspaceRevision r ON r.workspaceId = w.workspaceId " +
+            "WHERE w.publicSlug = :slug")
+    Optional<PublicContentState> findPublicContentState(@Param("slug") String slug);
+
+    // 공개 캐시 evict 용 (공개 주소가 없으면 empty)
+    @Query("SELECT w.publicSlug FROM Workspace w WHERE w.workspaceId = :workspaceId")
+    Optional<String> findPublicSlugByWorkspaceId(@Param("workspaceId") Long workspaceId);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.untitles.domain.workspace.repository;
+
+import com.untitles.domain.workspace.entity.WorkspaceRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface WorkspaceRevisionRepository extends JpaRepository<WorkspaceRevision, Long> {
+
+    // 행이 없으면 1로 생성, 있으면 1 증가 (한 문장이라 동시 요청에도 원자적, 커밋까지 행 잠금)
+    @Modifying
+    @Query(value = "INSERT INTO workspace_revision (workspace_id, tree_revision, publish_revision) " +
+            "VALUES (:workspaceId, 1, 0) " +
+            "ON DUPLICATE KEY UPDATE tree_revision = tree_revision + 1", nativeQuery = true)
+    void increaseTreeRevision(@Param("workspaceId") Long workspaceId);
+
+    @Modifying
+    @Query(value = "INSERT INTO workspace_revision (workspace_id, tree_revision, publish_revision) " +
+            "VALUES (:workspaceId, 0, 1) " +
+            "ON DUPLICATE KEY UPDATE publish_revision = publish_revision + 1", nativeQuery = true)
+    void increasePublishRevision(@Param("workspaceId") Long workspaceId);
+
+    @Query("SELECT r.treeRevision FROM WorkspaceRevision r WHERE r.workspaceId = :workspaceId")
+    Optional<Long> findTreeRevision(@Param("workspaceId") Long workspaceId);
+}
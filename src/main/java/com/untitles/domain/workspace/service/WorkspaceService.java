@@ -1,7 +1,9 @@
 package com.untitles.domain.workspace.service;
 
 import com.untitles.domain.folder.repository.FolderRepository;
+import com.untitles.domain.folder.repository.TreeChangeRepository;
 import com.untitles.domain.post.repository.PostRepository;
+import com.untitles.domain.publish.event.PublicContentChangedEvent;
 import com.untitles.domain.user.entity.Users;
 import com.untitles.domain.user.repository.UserRepository;
 import com.untitles.domain.workspace.dto.request.MemberInviteRequest;
@@ -16,10 +18,13 @@ import com.untitles.domain.workspace.entity.WorkspaceRole;
 import com.untitles.domain.workspace.entity.WorkspaceType;
 import com.untitles.domain.workspace.repository.WorkspaceMemberRepository;
 import com.untitles.domain.workspace.repository.WorkspaceRepository;
+import com.untitles.domain.workspace.repository.WorkspaceRevisionRepository;
 import com.untitles.global.exception.BusinessException;
 import com.untitles.global.exception.ErrorCode;
 import com.untitles.global.util.WorkspaceMemberHelper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,7 +40,17 @@ public class WorkspaceService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final FolderRepository folderRepository;
+    private final TreeChangeRepository treeChangeRepository;
+    private final WorkspaceRevisionRepository workspaceRevisionRepository;
     private final WorkspaceMemberHelper workspaceMemberHelper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 응답에 내려주는 생성 제한 (FolderService / PostService 와 같은 설정)
+    @Value("${app.limits.folders-per-workspace:20}")
+    private int folderLimit;
+
+    @Value("${app.limits.posts-per-workspace:50}")
+    private int postLimit;
 
     // 워크스페이스 생성
     @Transactional
@@ -56,7 +71,7 @@ public class WorkspaceService {
         WorkspaceMember owner = WorkspaceMember.createOwner(workspace, user);
         workspaceMemberRepository.save(owner);
 
-        return WorkspaceResponse.from(workspace, WorkspaceRole.OWNER);
+        return WorkspaceResponse.from(workspace, WorkspaceRole.OWNER, folderLimit, postLimit);
     }
 
     // 내 워크스페이스 목록
@@ -67,7 +82,9 @@ public class WorkspaceService {
         return workspaceMemberRepository.findAllByUserWithWorkspaceAndMembers(user).stream()
                 .map(member -> WorkspaceResponse.from(
                         member.getWorkspace(),
-                        member.getRole()
+                        member.getRole(),
+                        folderLimit,
+                        postLimit
                 ))
                 .toList();
     }
@@ -75,7 +92,7 @@ public class WorkspaceService {
     // 워크스페이스 상세
     public WorkspaceResponse getWorkspace(Long userId, Long workspaceId) {
         WorkspaceMember member = workspaceMemberHelper.getMemberOrThrow(userId, workspaceId);
-        return WorkspaceResponse.from(member.getWorkspace(), member.getRole());
+        return WorkspaceResponse.from(member.getWorkspace(), member.getRole(), folderLimit, postLimit);
     }
 
     // 워크스페이스 수정 (OWNER, ADMIN만)
@@ -89,7 +106,10 @@ public class WorkspaceService {
         if (request.description() != null) workspace.updateDescription(request.description());
 
         workspaceRepository.save(workspace);
-        return WorkspaceResponse.from(workspace, member.getRole());
+        // 공개 페이지에 이름/설명이 노출되므로 공개 ETag 갱신
+        workspaceRevisionRepository.increasePublishRevision(workspaceId);
+        eventPublisher.publishEvent(new PublicContentChangedEvent(workspaceId, List.of()));
+        return WorkspaceResponse.from(workspace, member.getRole(), folderLimit, postLimit);
     }
 
     // 워크스페이스 삭제 (OWNER만)
@@ -111,6 +131,7 @@ public class WorkspaceService {
         folderRepository.deleteAllByWorkspaceId(workspaceId);
         workspaceMemberRepository.deleteAllByWorkspaceId(workspaceId);
         workspaceRepository.delete(member.getWorkspace());
+        treeChangeRepository.deleteAllByWorkspaceId(workspaceId);
     }
 
     // 멤버 초대 (OWNER, ADMIN만)
@@ -2,6 +2,7 @@ package com.untitles.global.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -9,6 +10,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @EnableAsync
@@ -25,6 +27,60 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    @Bean(name = "postRevisionTaskExecutor")
+    public Executor postRevisionTaskExecutor() { // 게시글 이력 저장
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);// 변경분이 직전 이력 기준이라 커밋 순서대로 한 스레드에서 처리
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        // 큐가 가득 차면 버림 (요청 스레드에서 순서를 어기며 저장하지 않음)
+        // 이력이 빠진 version 을 base 로 한 병합은 VERSION_CONFLICT 로 처리됨
+        executor.setRejectedExecutionHandler((task, pool) -> log.warn("게시글 이력 저장 대기열이 가득 차 버림"));
+        executor.setThreadNamePrefix("post-revision-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "sanitizerTaskExecutor")
+    public Executor sanitizerTaskExecutor(@Value("${app.sanitizer.queue-capacity:64}") int queueCapacity) { // 큰 본문 sanitize
+        int cpus = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cpus);// CPU 작업이라 코어 수만큼
+        executor.setMaxPoolSize(cpus);
+        executor.setQueueCapacity(queueCapacity);
+        // 큐가 가득 차면 바로 거절 (요청 스레드에서 대신 돌리지 않음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("sanitizer-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "publicSnapshotTaskExecutor")
+    public Executor publicSnapshotTaskExecutor() { // 공개 페이지 스냅샷 재생성
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        // 큐가 가득 차면 버림 (없는 스냅샷은 첫 조회 때 생성)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("public-snapshot-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "treeStreamTaskExecutor")
+    public Executor treeStreamTaskExecutor() { // 트리 변경 SSE 전송
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);// 구독자가 revision 순서대로 받도록 한 스레드
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        // 큐가 가득 차면 버림 (클라이언트는 재연결 시 Last-Event-ID 이후 변경을 다시 받음)
+        executor.setRejectedExecutionHandler((task, pool) -> log.warn("트리 변경 전송 대기열이 가득 차 버림"));
+        executor.setThreadNamePrefix("tree-stream-");
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() { //이메일 예외
         return (ex, method, params) ->
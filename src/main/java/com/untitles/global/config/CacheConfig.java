@@ -2,13 +2,14 @@ package com.untitles.global.config;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
@@ -18,9 +19,18 @@ import java.time.Duration;
 @EnableCaching
 public class CacheConfig {
 
+    /**
+     * L1(노드 메모리, Caffeine) + L2(Redis) 2단계 캐시
+     * - 자주 읽는 트리/공개 페이지는 L1 에서 바로 응답 (Redis 왕복, 역직렬화 없음)
+     * - 변경은 Redis pub/sub 으로 다른 노드 L1 에 전파 (RedisPubSubConfig 에서 수신 등록)
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
-                                     ObjectMapper objectMapper) {  // Spring Boot 자동 설정 ObjectMapper 주입
+    public LayeredCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                            ObjectMapper objectMapper,  // Spring Boot 자동 설정 ObjectMapper 주입
+                                            StringRedisTemplate stringRedisTemplate,
+                                            @Value("${app.cache.ttl:10m}") Duration ttl,
+                                            @Value("${app.cache.local.max-size:10000}") long localMaxSize,
+                                            @Value("${app.cache.local.ttl:5m}") Duration localTtl) {
 
         ObjectMapper redisObjectMapper = objectMapper.copy();  // 기존 설정 복사
         redisObjectMapper.activateDefaultTyping(
@@ -33,13 +43,16 @@ public class CacheConfig {
                 new GenericJackson2JsonRedisSerializer(redisObjectMapper);
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(ttl)
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(serializer)
                 );
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(config)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new LayeredCacheManager(redisCacheManager, stringRedisTemplate, localMaxSize, localTtl);
     }
 }
\ No newline at end of file
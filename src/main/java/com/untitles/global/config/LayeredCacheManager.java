@@ -0,0 +1,130 @@
+package com.untitles.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * L1(Caffeine) + L2(Redis) 2단계 CacheManager
+ * - 캐시 이름마다 크기 제한 L1 을 두고, L2 는 기존 RedisCacheManager 의 캐시를 그대로 사용
+ * - 변경 시 cache-invalidation 채널로 "노드ID|캐시|키타입|키" 발행 → 다른 노드는 해당 L1 키만 비움
+ * - 통지가 유실돼도 캐시 값은 revision/ETag 로 검증 후 사용하므로(VersionedCache) 오래된 값을 내주지 않음
+ */
+@Slf4j
+public class LayeredCacheManager implements CacheManager, MessageListener {
+
+    public static final String CHANNEL = "cache-invalidation";
+
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager remote;
+    private final StringRedisTemplate redisTemplate;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, LayeredCache> caches = new ConcurrentHashMap<>();
+
+    public LayeredCacheManager(CacheManager remote, StringRedisTemplate redisTemplate,
+                               long localMaxSize, Duration localTtl) {
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    /**
+     * 다른 노드의 변경 통지 수신 (자기 노드가 보낸 것은 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+            if (parts.length < 4 || nodeId.equals(parts[0])) {
+                return;
+            }
+            LayeredCache cache = caches.get(parts[1]);
+            if (cache != null) {
+                cache.invalidateLocal(decodeKey(parts[2], parts[3]));
+            }
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    // ────────────────────────────────────────────────
+    // Private helpers
+    // ────────────────────────────────────────────────
+
+    private LayeredCache createCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return new LayeredCache(name,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaxSize)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                remoteCache,
+                this::publish);
+    }
+
+    // 통지 실패는 요청을 실패시키지 않음 (다른 노드는 L1 TTL 또는 버전 비교로 걸러짐)
+    private void publish(String cacheName, Object key) {
+        try {
+            String keyType;
+            String keyValue;
+            if (key == null) {
+                keyType = "all";
+                keyValue = "";
+            } else if (key instanceof Long) {
+                keyType = "long";
+                keyValue = key.toString();
+            } else if (key instanceof String) {
+                keyType = "string";
+                keyValue = (String) key;
+            } else {
+                // 그 외 키 타입은 문자열로 복원할 수 없으므로 해당 캐시 L1 전체 비움
+                keyType = "all";
+                keyValue = "";
+            }
+            redisTemplate.convertAndSend(CHANNEL, String.join(SEPARATOR, nodeId, cacheName, keyType, keyValue));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 발행 실패 cache={}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    private Object decodeKey(String keyType, String keyValue) {
+        return switch (keyType) {
+            case "long" -> Long.valueOf(keyValue);
+            case "string" -> keyValue;
+            default -> null;
+        };
+    }
+
+    @FunctionalInterface
+    interface InvalidationPublisher {
+        void publish(String cacheName, Object key);
+    }
+}
@@ -0,0 +1,29 @@
+package com.untitles.global.config;
+
+import com.untitles.domain.folder.service.WorkspaceTreeStream;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 수신 등록
+ * - 트리 변경 SSE: 서버 간 변경 전달 (workspace-tree:{workspaceId})
+ * - 캐시 L1 무효화: 다른 노드의 캐시 변경 전달 (cache-invalidation)
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                        WorkspaceTreeStream workspaceTreeStream,
+                                                                        LayeredCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(workspaceTreeStream, new PatternTopic(WorkspaceTreeStream.CHANNEL_PREFIX + "*"));
+        container.addMessageListener(cacheManager, new ChannelTopic(LayeredCacheManager.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,14 @@
+package com.untitles.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 사용
+ * - 편집 세션 저장, 트리 SSE heartbeat, 공개 스냅샷 정리
+ * - 한 작업이 느려도 다른 작업이 밀리지 않도록 spring.task.scheduling.pool.size 로 스레드를 작업 수만큼
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -42,7 +42,8 @@ public class SecurityConfig {
             "/oauth2/**",
             "/login/oauth2/**",
             "/error",
-            "/actuator/**"
+            "/actuator/**",
+            "/ws/**"            // WebSocket - 핸드셰이크 인터셉터에서 토큰/멤버 확인
     };
 
     @Bean
@@ -62,6 +63,8 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // 조건부 GET (If-None-Match) 을 위해 ETag 를 스크립트에서 읽을 수 있도록
+        configuration.setExposedHeaders(Arrays.asList("ETag"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
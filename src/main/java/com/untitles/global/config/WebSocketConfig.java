@@ -0,0 +1,35 @@
+package com.untitles.global.config;
+
+import com.untitles.domain.post.collab.PostEditHandshakeInterceptor;
+import com.untitles.domain.post.collab.PostEditWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 게시글 실시간 편집 WebSocket 등록
+ * - 인증은 Security 필터 대신 핸드셰이크 인터셉터에서 (브라우저는 헤더 대신 ?ticket= 으로 접속)
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final PostEditWebSocketHandler postEditWebSocketHandler;
+    private final PostEditHandshakeInterceptor postEditHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(postEditWebSocketHandler, PostEditHandshakeInterceptor.PATH)
+                .addInterceptors(postEditHandshakeInterceptor)
+                .setAllowedOrigins(
+                        "http://localhost:5173",
+                        "http://localhost:3000",
+                        "https://untitles.net",
+                        "https://www.untitles.net",
+                        "https://untitles-web.vercel.app"
+                );
+    }
+}
@@ -49,7 +49,10 @@ public enum ErrorCode {
 
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "멤버를 찾을 수 없습니다."),
     // 409 Conflict
-    VERSION_CONFLICT(HttpStatus.CONFLICT, "다른 곳에서 수정되었습니다.");
+    VERSION_CONFLICT(HttpStatus.CONFLICT, "다른 곳에서 수정되었습니다."),
+
+    // 503 Service Unavailable
+    SANITIZER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus status;
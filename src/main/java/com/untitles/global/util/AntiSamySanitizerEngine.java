@@ -0,0 +1,51 @@
+package com.untitles.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.owasp.validator.html.*;
+
+import java.io.InputStream;
+
+/**
+ * OWASP AntiSamy 엔진
+ */
+@Slf4j
+public class AntiSamySanitizerEngine implements HtmlSanitizerEngine {
+
+    private final AntiSamy antiSamy;
+    private final Policy policy;
+
+    public AntiSamySanitizerEngine() {
+        try {
+            // 커스텀 정책 파일 로드 (리소스에서)
+            InputStream policyStream = getClass().getResourceAsStream(POLICY_RESOURCE);
+            if (policyStream != null) {
+                this.policy = Policy.getInstance(policyStream);
+            } else {
+                // 기본 정책 사용 (slashdot - 비교적 관대한 정책)
+                this.policy = Policy.getInstance(
+                    getClass().getResourceAsStream("/antisamy-slashdot.xml")
+                );
+            }
+            this.antiSamy = new AntiSamy();
+        } catch (PolicyException e) {
+            log.error("AntiSamy 정책 로드 실패", e);
+            throw new RuntimeException("HTML Sanitizer 초기화 실패", e);
+        }
+    }
+
+    @Override
+    public String sanitize(String html) {
+        try {
+            CleanResults results = antiSamy.scan(html, policy);
+
+            // 경고 로그 (디버깅용)
+            if (!results.getErrorMessages().isEmpty()) {
+                log.debug("HTML Sanitizer 경고: {}", results.getErrorMessages());
+            }
+
+            return results.getCleanHTML();
+        } catch (ScanException | PolicyException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.untitles.global.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문 저장 형식 (1바이트 헤더 + 본문)
+ * - RAW(0): UTF-8 그대로, DEFLATE(1): Deflate 압축
+ * - 짧거나 압축해도 줄지 않는 본문은 RAW 로 저장 (헤더로 구분하므로 섞여 있어도 읽기 가능)
+ */
+public final class ContentCodec {
+
+    static final byte RAW = 0;
+    static final byte DEFLATE = 1;
+
+    // 이보다 짧은 본문은 압축 이득보다 CPU 비용이 큼
+    static final int MIN_COMPRESS_BYTES = 512;
+
+    private ContentCodec() {
+    }
+
+    public static byte[] encode(String content) {
+        if (content == null) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= MIN_COMPRESS_BYTES) {
+            byte[] compressed = deflate(raw);
+            if (compressed.length < raw.length) {
+                return withHeader(DEFLATE, compressed);
+            }
+        }
+        return withHeader(RAW, raw);
+    }
+
+    public static String decode(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (stored.length == 0) {
+            return "";
+        }
+        return switch (stored[0]) {
+            case RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(stored), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("알 수 없는 본문 형식: " + stored[0]);
+        };
+    }
+
+    private static byte[] withHeader(byte format, byte[] body) {
+        byte[] stored = new byte[body.length + 1];
+        stored[0] = format;
+        System.arraycopy(body, 0, stored, 1, body.length);
+        return stored;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 3);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // 헤더 1바이트를 건너뛰고 압축 해제
+    private static byte[] inflate(byte[] stored) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, 1, stored.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("손상된 압축 본문");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 압축 본문", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
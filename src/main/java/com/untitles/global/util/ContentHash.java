@@ -0,0 +1,31 @@
+package com.untitles.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 본문 해시 (SHA-256)
+ * - 같은 본문 재전송 판별, sanitize 결과 메모이제이션 키로 사용
+ */
+public final class ContentHash {
+
+    public static final int LENGTH = 32;
+
+    private ContentHash() {
+    }
+
+    public static byte[] sha256(String content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 이 SHA-256 을 제공해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String sha256Hex(String content) {
+        return HexFormat.of().formatHex(sha256(content));
+    }
+}
@@ -0,0 +1,176 @@
+package com.untitles.global.util;
+
+/**
+ * 정렬 키(fractional index) 생성
+ * - 두 키 사이에 들어갈 새 키를 만들어, 순서를 바꿀 때 옮긴 행 하나만 수정
+ * - 소문자 36진 문자열이라 문자열 비교(Java, DB ascii_bin 정렬) 순서가 곧 정렬 순서
+ * - 키 = 정수부 + 소수부, 정수부 첫 글자가 정수부 길이를 나타냄
+ *   ('a'~'z': 양수, 자릿수 1~26 / '9'~'0': 음수, 자릿수 1~10, 작을수록 김)
+ * - 맨 앞/뒤에 추가할 때는 정수부를 1 씩 줄이거나 늘리므로 키 길이가 O(log n) 으로만 늘어남
+ * - 소수부는 '0' 으로 끝나지 않음 (항상 앞에 끼워 넣을 자리가 있도록)
+ */
+public final class FractionalIndex {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final char ZERO = DIGITS.charAt(0);
+    private static final char LAST = DIGITS.charAt(DIGITS.length() - 1);
+
+    private static final String INTEGER_ZERO = "a" + ZERO;
+    private static final String SMALLEST_INTEGER = "0" + String.valueOf(ZERO).repeat(10);
+
+    private FractionalIndex() {
+    }
+
+    /**
+     * before 와 after 사이의 키 (null 이면 그쪽 끝이 열려 있음)
+     */
+    public static String between(String before, String after) {
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("before 는 after 보다 작아야 합니다: " + before + ", " + after);
+        }
+        validate(before);
+        validate(after);
+
+        if (before == null && after == null) {
+            return INTEGER_ZERO;
+        }
+        if (before == null) {
+            String integerB = integerPart(after);
+            if (integerB.equals(SMALLEST_INTEGER)) {
+                return integerB + midpoint("", after.substring(integerB.length()));
+            }
+            // after 에 소수부가 있으면 정수부만으로 더 작음
+            return integerB.length() < after.length() ? integerB : decrement(integerB);
+        }
+
+        String integerA = integerPart(before);
+        String fractionA = before.substring(integerA.length());
+        if (after == null) {
+            String next = increment(integerA);
+            return next != null ? next : integerA + midpoint(fractionA, null);
+        }
+
+        String integerB = integerPart(after);
+        if (integerA.equals(integerB)) {
+            return integerA + midpoint(fractionA, after.substring(integerB.length()));
+        }
+        String next = increment(integerA);
+        if (next != null && next.compareTo(after) < 0) {
+            return next;
+        }
+        return integerA + midpoint(fractionA, null);
+    }
+
+    private static String midpoint(String a, String b) {
+        // 공통 접두사는 그대로 두고 나머지에서 중간값 계산 (a 가 짧으면 '0' 으로 채운 것으로 간주)
+        if (b != null) {
+            int n = 0;
+            while (n < b.length() && charAt(a, n) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.length() > n ? a.substring(n) : "", b.substring(n));
+            }
+        }
+
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : DIGITS.length();
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        // 첫 자리가 붙어 있으면 한 자리 더 내려가서 계산
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.length() > 1 ? a.substring(1) : "", null);
+    }
+
+    /**
+     * 정수부 + 1 (자릿수가 넘치면 다음 길이로, 더 늘릴 수 없으면 null)
+     */
+    private static String increment(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            if (digits[i] != LAST) {
+                digits[i] = DIGITS.charAt(DIGITS.indexOf(digits[i]) + 1);
+                return head + new String(digits);
+            }
+            digits[i] = ZERO;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        if (head == '9') {
+            return INTEGER_ZERO;
+        }
+        // 양수는 한 자리 늘고, 음수는 한 자리 줄어듦
+        String rest = new String(digits);
+        return head >= 'a'
+                ? (char) (head + 1) + rest + ZERO
+                : (char) (head + 1) + rest.substring(1);
+    }
+
+    /**
+     * 정수부 - 1 (자릿수가 모자라면 다음 길이로, 더 줄일 수 없으면 null)
+     */
+    private static String decrement(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            if (digits[i] != ZERO) {
+                digits[i] = DIGITS.charAt(DIGITS.indexOf(digits[i]) - 1);
+                return head + new String(digits);
+            }
+            digits[i] = LAST;
+        }
+        if (head == '0') {
+            return null;
+        }
+        if (head == 'a') {
+            return "9" + LAST;
+        }
+        // 양수는 한 자리 줄고, 음수는 한 자리 늘어남
+        String rest = new String(digits);
+        return head >= 'a'
+                ? (char) (head - 1) + rest.substring(1)
+                : (char) (head - 1) + rest + LAST;
+    }
+
+    private static String integerPart(String key) {
+        return key.substring(0, integerLength(key.charAt(0)));
+    }
+
+    private static int integerLength(char head) {
+        if (head >= 'a' && head <= 'z') {
+            return head - 'a' + 2;
+        }
+        if (head >= '0' && head <= '9') {
+            return '9' - head + 2;
+        }
+        throw new IllegalArgumentException("잘못된 정렬 키 시작 문자: " + head);
+    }
+
+    private static char charAt(String s, int index) {
+        return index < s.length() ? s.charAt(index) : ZERO;
+    }
+
+    private static void validate(String key) {
+        if (key == null) {
+            return;
+        }
+        if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("잘못된 정렬 키: " + key);
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("잘못된 정렬 키: " + key);
+            }
+        }
+        int integerLength = integerLength(key.charAt(0));
+        if (key.length() < integerLength
+                || (key.length() > integerLength && key.charAt(key.length() - 1) == ZERO)) {
+            throw new IllegalArgumentException("잘못된 정렬 키: " + key);
+        }
+    }
+}
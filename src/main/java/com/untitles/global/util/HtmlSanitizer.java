@@ -1,39 +1,35 @@
 package com.untitles.global.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
-import org.owasp.validator.html.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.InputStream;
-
 /**
  * HTML 콘텐츠에서 XSS 공격을 방지하기 위한 Sanitizer
- * OWASP AntiSamy 라이브러리 사용
+ * - 엔진은 app.sanitizer.engine 으로 선택 (antisamy | streaming, 같은 antisamy-policy.xml 사용)
+ * - 자동 저장이 같은 본문을 반복해서 보내므로 입력 SHA-256 → 결과를 메모리에 캐시 (문자 수 기준으로 크기 제한)
  */
 @Slf4j
 @Component
 public class HtmlSanitizer {
 
-    private final AntiSamy antiSamy;
-    private final Policy policy;
+    private final HtmlSanitizerEngine engine;
+    private final Cache<String, String> cleanCache;
 
-    public HtmlSanitizer() {
-        try {
-            // 커스텀 정책 파일 로드 (리소스에서)
-            InputStream policyStream = getClass().getResourceAsStream("/antisamy-policy.xml");
-            if (policyStream != null) {
-                this.policy = Policy.getInstance(policyStream);
-            } else {
-                // 기본 정책 사용 (slashdot - 비교적 관대한 정책)
-                this.policy = Policy.getInstance(
-                    getClass().getResourceAsStream("/antisamy-slashdot.xml")
-                );
-            }
-            this.antiSamy = new AntiSamy();
-        } catch (PolicyException e) {
-            log.error("AntiSamy 정책 로드 실패", e);
-            throw new RuntimeException("HTML Sanitizer 초기화 실패", e);
-        }
+    public HtmlSanitizer(@Value("${app.sanitizer.engine:antisamy}") String engine,
+                         @Value("${app.sanitizer.cache-max-chars:20000000}") long cacheMaxChars) {
+        this.engine = switch (engine) {
+            case "antisamy" -> new AntiSamySanitizerEngine();
+            case "streaming" -> new StreamingHtmlSanitizerEngine();
+            default -> throw new IllegalArgumentException("알 수 없는 sanitizer 엔진: " + engine);
+        };
+        this.cleanCache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxChars)
+                .weigher((String key, String clean) -> key.length() + clean.length())
+                .build();
+        log.info("HTML Sanitizer 엔진: {}", engine);
     }
 
     /**
@@ -48,18 +44,19 @@ public class HtmlSanitizer {
             return html;
         }
 
+        String key = ContentHash.sha256Hex(html);
+        String cached = cleanCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            CleanResults results = antiSamy.scan(html, policy);
-            
-            // 경고 로그 (디버깅용)
-            if (!results.getErrorMessages().isEmpty()) {
-                log.debug("HTML Sanitizer 경고: {}", results.getErrorMessages());
-            }
-            
-            return results.getCleanHTML();
-        } catch (ScanException | PolicyException e) {
+            String clean = engine.sanitize(html);
+            cleanCache.put(key, clean);
+            return clean;
+        } catch (IllegalArgumentException e) {
             log.error("HTML Sanitize 실패", e);
-            // 실패 시 모든 HTML 태그 제거 (안전한 fallback)
+            // 실패 시 모든 HTML 태그 제거 (안전한 fallback, 캐시하지 않음)
             return html.replaceAll("<[^>]*>", "");
         }
     }
@@ -0,0 +1,16 @@
+package com.untitles.global.util;
+
+/**
+ * HTML sanitize 엔진 (app.sanitizer.engine 으로 선택)
+ * - antisamy: OWASP AntiSamy (DOM 파싱)
+ * - streaming: 같은 정책 파일을 한 번에 훑으며 적용하는 허용 목록 토크나이저
+ */
+public interface HtmlSanitizerEngine {
+
+    String POLICY_RESOURCE = "/antisamy-policy.xml";
+
+    /**
+     * @throws IllegalArgumentException 검사할 수 없는 입력 (크기 초과, 스캔 실패)
+     */
+    String sanitize(String html);
+}
@@ -0,0 +1,28 @@
+package com.untitles.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTML 본문 diff 용 토큰 분리 (ThreeWayMerge, TextDelta 공용)
+ * - 태그 하나, 짝 없는 '<', 단어, 공백 묶음 단위 (이어 붙이면 원문과 동일)
+ * - 본문이 한 줄짜리인 경우가 많아 줄 단위 대신 사용
+ */
+final class HtmlTokenizer {
+
+    private static final Pattern TOKEN = Pattern.compile("<[^>]*>|<|[^<\\s]+|\\s+");
+
+    private HtmlTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+}
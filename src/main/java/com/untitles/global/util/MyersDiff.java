@@ -0,0 +1,98 @@
+package com.untitles.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Myers O(ND) diff
+ * - 결과는 a 의 각 원소가 대응되는 b 의 인덱스 (대응 없으면 -1)
+ * - 편집 거리가 maxEdits 를 넘으면 null (큰 변경은 병합을 포기하는 쪽이 싸다)
+ */
+public final class MyersDiff {
+
+    private MyersDiff() {
+    }
+
+    public static <T> int[] match(List<T> a, List<T> b, int maxEdits) {
+        int n = a.size();
+        int m = b.size();
+        int[] result = new int[n];
+        Arrays.fill(result, -1);
+
+        // 공통 접두사/접미사는 탐색 없이 바로 대응
+        int prefix = 0;
+        while (prefix < n && prefix < m && a.get(prefix).equals(b.get(prefix))) {
+            result[prefix] = prefix;
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < n - prefix && suffix < m - prefix
+                && a.get(n - 1 - suffix).equals(b.get(m - 1 - suffix))) {
+            result[n - 1 - suffix] = m - 1 - suffix;
+            suffix++;
+        }
+
+        List<T> midA = a.subList(prefix, n - suffix);
+        List<T> midB = b.subList(prefix, m - suffix);
+        return matchMiddle(midA, midB, maxEdits, result, prefix) ? result : null;
+    }
+
+    private static <T> boolean matchMiddle(List<T> a, List<T> b, int maxEdits, int[] result, int offset) {
+        int n = a.size();
+        int m = b.size();
+        int max = Math.min(n + m, maxEdits);
+        int center = max + 1;
+        int[] v = new int[2 * max + 3];
+        // 각 단계 d 가 끝난 뒤의 v[-d..d] (역추적용)
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[center + k - 1] < v[center + k + 1]))
+                        ? v[center + k + 1]
+                        : v[center + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[center + k] = x;
+                if (x >= n && y >= m) {
+                    backtrack(a, b, trace, d, result, offset);
+                    return true;
+                }
+            }
+            trace.add(Arrays.copyOfRange(v, center - d, center + d + 1));
+        }
+        return false;
+    }
+
+    private static <T> void backtrack(List<T> a, List<T> b, List<int[]> trace, int depth, int[] result, int offset) {
+        int x = a.size();
+        int y = b.size();
+        for (int d = depth; d > 0; d--) {
+            int[] prev = trace.get(d - 1);
+            int k = x - y;
+            int prevK = (k == -d || (k != d && at(prev, k - 1, d - 1) < at(prev, k + 1, d - 1))) ? k + 1 : k - 1;
+            int prevX = at(prev, prevK, d - 1);
+            int prevY = prevX - prevK;
+            while (x > prevX && y > prevY) {
+                result[offset + x - 1] = offset + y - 1;
+                x--;
+                y--;
+            }
+            x = prevX;
+            y = prevY;
+        }
+        while (x > 0 && y > 0) {
+            result[offset + x - 1] = offset + y - 1;
+            x--;
+            y--;
+        }
+    }
+
+    private static int at(int[] v, int k, int d) {
+        return v[k + d];
+    }
+}
@@ -0,0 +1,228 @@
+package com.untitles.global.util;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * antisamy-policy.xml 을 스트리밍 sanitizer 용으로 읽은 허용 목록
+ * - 태그 규칙(action + 허용 속성), 공통 속성 값 규칙, 전역 속성, CSS 속성 규칙, 인코딩 태그, 빈 태그 허용 목록
+ * - 정규식은 AntiSamy 와 같이 값 전체 일치, literal 은 대소문자 무시
+ */
+final class SanitizerPolicy {
+
+    static final String ACTION_VALIDATE = "validate";
+    static final String ACTION_FILTER = "filter";
+    static final String ACTION_TRUNCATE = "truncate";
+    static final String ACTION_REMOVE = "remove";
+
+    // 정책에 allowed-empty-tags 가 없을 때 AntiSamy 기본값 (이 외의 태그는 자식이 없으면 제거)
+    private static final Set<String> DEFAULT_ALLOWED_EMPTY_TAGS = Set.of(
+            "br", "hr", "a", "img", "link", "iframe", "script", "object", "applet", "frame",
+            "base", "param", "meta", "input", "textarea", "embed", "basefont", "col");
+
+    record TagRule(String action, Set<String> attributes) {
+    }
+
+    record ValueRule(List<Pattern> patterns, Set<String> literals) {
+
+        boolean allows(String value) {
+            if (literals.contains(value.toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(value).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final int maxInputSize;
+    private final Map<String, TagRule> tags;
+    private final Map<String, ValueRule> attributes;
+    private final Set<String> globalAttributes;
+    private final Map<String, ValueRule> cssProperties;
+    private final Set<String> encodedTags;
+    private final Set<String> allowedEmptyTags;
+
+    private SanitizerPolicy(int maxInputSize, Map<String, TagRule> tags, Map<String, ValueRule> attributes,
+                            Set<String> globalAttributes, Map<String, ValueRule> cssProperties,
+                            Set<String> encodedTags, Set<String> allowedEmptyTags) {
+        this.maxInputSize = maxInputSize;
+        this.tags = tags;
+        this.attributes = attributes;
+        this.globalAttributes = globalAttributes;
+        this.cssProperties = cssProperties;
+        this.encodedTags = encodedTags;
+        this.allowedEmptyTags = allowedEmptyTags;
+    }
+
+    static SanitizerPolicy load(String resource) {
+        try (InputStream in = SanitizerPolicy.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("sanitizer 정책 파일 없음: " + resource);
+            }
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            return parse(factory.newDocumentBuilder().parse(in));
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("sanitizer 정책 파일 읽기 실패: " + resource, e);
+        }
+    }
+
+    int maxInputSize() {
+        return maxInputSize;
+    }
+
+    TagRule tag(String name) {
+        return tags.get(name);
+    }
+
+    boolean isEncoded(String name) {
+        return encodedTags.contains(name);
+    }
+
+    boolean isAllowedEmpty(String name) {
+        return allowedEmptyTags.contains(name);
+    }
+
+    boolean isAllowedAttribute(TagRule rule, String name) {
+        return rule.attributes().contains(name) || globalAttributes.contains(name);
+    }
+
+    ValueRule attribute(String name) {
+        return attributes.get(name);
+    }
+
+    ValueRule cssProperty(String name) {
+        return cssProperties.get(name);
+    }
+
+    private static SanitizerPolicy parse(Document doc) {
+        Element root = doc.getDocumentElement();
+
+        int maxInputSize = Integer.MAX_VALUE;
+        for (Element directive : children(root, "directives", "directive")) {
+            if ("maxInputSize".equals(directive.getAttribute("name"))) {
+                maxInputSize = Integer.parseInt(directive.getAttribute("value"));
+            }
+        }
+
+        Map<String, Pattern> regexps = new HashMap<>();
+        for (Element regexp : children(root, "common-regexps", "regexp")) {
+            regexps.put(regexp.getAttribute("name"), Pattern.compile(regexp.getAttribute("value")));
+        }
+
+        Map<String, ValueRule> attributes = new HashMap<>();
+        for (Element attribute : children(root, "common-attributes", "attribute")) {
+            attributes.put(lower(attribute.getAttribute("name")), valueRule(attribute, regexps));
+        }
+
+        Set<String> globalAttributes = new HashSet<>();
+        for (Element attribute : children(root, "global-tag-attributes", "attribute")) {
+            globalAttributes.add(lower(attribute.getAttribute("name")));
+        }
+
+        Set<String> encodedTags = new HashSet<>();
+        for (Element tag : children(root, "tags-to-encode", "tag")) {
+            encodedTags.add(lower(tag.getTextContent().trim()));
+        }
+
+        Map<String, TagRule> tags = new HashMap<>();
+        for (Element tag : children(root, "tag-rules", "tag")) {
+            Set<String> allowed = new HashSet<>();
+            for (Element attribute : elements(tag, "attribute")) {
+                String name = lower(attribute.getAttribute("name"));
+                allowed.add(name);
+                // 태그 안에서 값 규칙을 직접 정의한 경우
+                if (attribute.hasChildNodes() && !attributes.containsKey(name)) {
+                    attributes.put(name, valueRule(attribute, regexps));
+                }
+            }
+            tags.put(lower(tag.getAttribute("name")), new TagRule(lower(tag.getAttribute("action")), allowed));
+        }
+
+        Map<String, ValueRule> cssProperties = new HashMap<>();
+        for (Element property : children(root, "css-rules", "property")) {
+            cssProperties.put(lower(property.getAttribute("name")), valueRule(property, regexps));
+        }
+
+        Set<String> allowedEmptyTags = new HashSet<>();
+        for (Element literal : children(root, "allowed-empty-tags", "literal-list")) {
+            for (Element value : elements(literal, "literal")) {
+                allowedEmptyTags.add(lower(value.getAttribute("value")));
+            }
+        }
+        if (allowedEmptyTags.isEmpty()) {
+            allowedEmptyTags.addAll(DEFAULT_ALLOWED_EMPTY_TAGS);
+        }
+
+        return new SanitizerPolicy(maxInputSize, tags, attributes, globalAttributes, cssProperties,
+                encodedTags, allowedEmptyTags);
+    }
+
+    private static ValueRule valueRule(Element element, Map<String, Pattern> regexps) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (Element list : elements(element, "regexp-list")) {
+            for (Element regexp : elements(list, "regexp")) {
+                Pattern pattern = regexp.hasAttribute("name")
+                        ? regexps.get(regexp.getAttribute("name"))
+                        : Pattern.compile(regexp.getAttribute("value"));
+                if (pattern != null) {
+                    patterns.add(pattern);
+                }
+            }
+        }
+        Set<String> literals = new HashSet<>();
+        for (Element list : elements(element, "literal-list")) {
+            for (Element literal : elements(list, "literal")) {
+                literals.add(lower(literal.getAttribute("value")));
+            }
+        }
+        return new ValueRule(List.copyOf(patterns), Set.copyOf(literals));
+    }
+
+    // root > section > name
+    private static List<Element> children(Element root, String section, String name) {
+        List<Element> result = new ArrayList<>();
+        for (Element parent : elements(root, section)) {
+            result.addAll(elements(parent, name));
+        }
+        return result;
+    }
+
+    // 바로 아래 자식 요소만
+    private static List<Element> elements(Element parent, String name) {
+        List<Element> result = new ArrayList<>();
+        NodeList nodes = parent.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node instanceof Element element && name.equals(element.getTagName())) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,514 @@
+package com.untitles.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스트리밍 허용 목록 sanitizer
+ * - DOM 을 만들지 않고 입력을 한 번 훑으면서 허용된 태그/속성만 출력 버퍼에 바로 씀
+ * - 규칙은 AntiSamy 와 같은 antisamy-policy.xml 을 읽어 같은 방식으로 적용
+ *   · validate: 허용 속성만 남김 (style 은 CSS 속성별 검사) / filter·정책에 없는 태그: 태그만 지우고 내용 유지
+ *   · remove: 태그와 내용 모두 삭제 / tags-to-encode: 태그를 텍스트로 인코딩
+ *   · 자식이 없는 요소는 빈 태그 허용 목록에 있을 때만 유지, 주석/선언 삭제, 닫히지 않은 태그는 끝에서 닫음
+ * - 출력 형식은 AntiSamy XHTML 출력과 맞춤 (빈 요소 "<br />", 속성값 큰따옴표)
+ */
+public class StreamingHtmlSanitizerEngine implements HtmlSanitizerEngine {
+
+    private static final Set<String> VOID_TAGS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "param", "source", "track", "wbr");
+
+    // 내용을 태그로 해석하지 않는 요소 (닫는 태그까지 텍스트)
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("script", "style", "textarea", "title", "xmp");
+
+    private static final Map<String, String> ENTITIES = Map.ofEntries(
+            Map.entry("amp", "&"), Map.entry("lt", "<"), Map.entry("gt", ">"),
+            Map.entry("quot", "\""), Map.entry("apos", "'"), Map.entry("nbsp", "\u00A0"),
+            Map.entry("copy", "©"), Map.entry("reg", "®"), Map.entry("middot", "·"),
+            Map.entry("times", "×"), Map.entry("ndash", "–"), Map.entry("mdash", "—"),
+            Map.entry("lsquo", "‘"), Map.entry("rsquo", "’"),
+            Map.entry("ldquo", "“"), Map.entry("rdquo", "”"), Map.entry("hellip", "…"));
+
+    private final SanitizerPolicy policy;
+
+    public StreamingHtmlSanitizerEngine() {
+        this(SanitizerPolicy.load(POLICY_RESOURCE));
+    }
+
+    StreamingHtmlSanitizerEngine(SanitizerPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public String sanitize(String html) {
+        if (html.length() > policy.maxInputSize()) {
+            throw new IllegalArgumentException("입력 크기 초과: " + html.length());
+        }
+        return new Scan(html).run();
+    }
+
+    // 열려 있는(출력된) 요소
+    private static final class OpenTag {
+        final String name;
+        final int start;        // 여는 태그가 시작된 출력 위치 (빈 요소 제거 시 되돌림)
+        boolean hasChild;
+
+        OpenTag(String name, int start) {
+            this.name = name;
+            this.start = start;
+        }
+    }
+
+    private final class Scan {
+
+        private final String in;
+        private final StringBuilder out;
+        private final Deque<OpenTag> open = new ArrayDeque<>();
+        // 태그 하나의 속성 (이름, 값 번갈아) - 태그마다 재사용
+        private final List<String> attributes = new ArrayList<>();
+        private int pos;
+
+        Scan(String in) {
+            this.in = in;
+            this.out = new StringBuilder(in.length());
+        }
+
+        String run() {
+            int length = in.length();
+            while (pos < length) {
+                int lt = in.indexOf('<', pos);
+                if (lt < 0) {
+                    text(pos, length);
+                    break;
+                }
+                text(pos, lt);
+                pos = lt;
+                if (!markup()) {
+                    // 태그가 아닌 '<' 는 텍스트
+                    text(pos, pos + 1);
+                    pos++;
+                }
+            }
+            while (!open.isEmpty()) {
+                close(open.pop());
+            }
+            return out.toString();
+        }
+
+        private boolean markup() {
+            if (in.startsWith("<!--", pos)) {
+                int end = in.indexOf("-->", pos + 4);
+                pos = end < 0 ? in.length() : end + 3;
+                markChild();
+                return true;
+            }
+            char next = charAt(pos + 1);
+            if (next == '!' || next == '?') {
+                int end = in.indexOf('>', pos);
+                pos = end < 0 ? in.length() : end + 1;
+                return true;
+            }
+            if (next == '/') {
+                return endTag();
+            }
+            if (Character.isLetter(next)) {
+                return startTag();
+            }
+            return false;
+        }
+
+        private boolean endTag() {
+            int nameEnd = nameEnd(pos + 2);
+            int end = in.indexOf('>', nameEnd);
+            if (nameEnd == pos + 2 || end < 0) {
+                return false;
+            }
+            String name = in.substring(pos + 2, nameEnd).toLowerCase(Locale.ROOT);
+            pos = end + 1;
+
+            if (!isOpen(name)) {
+                // 짝 없는 닫는 태그는 무시 (인코딩 대상만 텍스트로)
+                if (policy.isEncoded(name)) {
+                    out.append("&lt;/").append(name).append("&gt;");
+                }
+                return true;
+            }
+            OpenTag top;
+            do {
+                top = open.pop();
+                close(top);
+            } while (!top.name.equals(name));
+            return true;
+        }
+
+        private boolean startTag() {
+            int nameEnd = nameEnd(pos + 1);
+            String name = in.substring(pos + 1, nameEnd).toLowerCase(Locale.ROOT);
+            int end = readAttributes(nameEnd);
+            if (end < 0) {
+                return false;
+            }
+            boolean selfClosing = in.charAt(end - 2) == '/';
+            pos = end;
+            markChild();
+
+            boolean hasContent = !VOID_TAGS.contains(name) && !selfClosing;
+            SanitizerPolicy.TagRule rule = policy.tag(name);
+            if (rule == null && policy.isEncoded(name)) {
+                out.append("&lt;").append(name).append("&gt;");
+            } else if (rule == null || SanitizerPolicy.ACTION_FILTER.equals(rule.action())) {
+                // 태그만 지우고 내용은 부모로
+            } else if (SanitizerPolicy.ACTION_VALIDATE.equals(rule.action())
+                    || SanitizerPolicy.ACTION_TRUNCATE.equals(rule.action())) {
+                int start = out.length();
+                out.append('<').append(name);
+                if (SanitizerPolicy.ACTION_VALIDATE.equals(rule.action())) {
+                    writeAttributes(rule);
+                }
+                if (VOID_TAGS.contains(name)) {
+                    out.append(" />");
+                } else {
+                    out.append('>');
+                    open.push(new OpenTag(name, start));
+                }
+            } else {
+                // remove: 내용까지 삭제
+                if (hasContent) {
+                    skipElement(name);
+                }
+                return true;
+            }
+
+            if (hasContent && RAW_TEXT_TAGS.contains(name)) {
+                rawText(name);
+            }
+            return true;
+        }
+
+        /**
+         * 태그 이름 뒤의 속성을 읽어 attributes 에 채움
+         * @return '>' 다음 위치, 태그가 끝나지 않으면 -1
+         */
+        private int readAttributes(int i) {
+            attributes.clear();
+            int length = in.length();
+            while (true) {
+                while (i < length && Character.isWhitespace(in.charAt(i))) {
+                    i++;
+                }
+                if (i >= length) {
+                    return -1;
+                }
+                char c = in.charAt(i);
+                if (c == '>') {
+                    return i + 1;
+                }
+                if (c == '/') {
+                    i++;
+                    continue;
+                }
+
+                int nameStart = i;
+                while (i < length && !isAttributeNameEnd(in.charAt(i))) {
+                    i++;
+                }
+                if (i == nameStart) {
+                    // '=' 로 시작하는 깨진 속성
+                    i++;
+                    continue;
+                }
+                String name = in.substring(nameStart, i).toLowerCase(Locale.ROOT);
+
+                int j = i;
+                while (j < length && Character.isWhitespace(in.charAt(j))) {
+                    j++;
+                }
+                String value = "";
+                if (j < length && in.charAt(j) == '=') {
+                    j++;
+                    while (j < length && Character.isWhitespace(in.charAt(j))) {
+                        j++;
+                    }
+                    if (j >= length) {
+                        return -1;
+                    }
+                    char quote = in.charAt(j);
+                    if (quote == '"' || quote == '\'') {
+                        int close = in.indexOf(quote, j + 1);
+                        if (close < 0) {
+                            return -1;
+                        }
+                        value = decode(j + 1, close);
+                        i = close + 1;
+                    } else {
+                        int valueStart = j;
+                        while (j < length && !Character.isWhitespace(in.charAt(j)) && in.charAt(j) != '>') {
+                            j++;
+                        }
+                        value = decode(valueStart, j);
+                        i = j;
+                    }
+                }
+                attributes.add(name);
+                attributes.add(value);
+            }
+        }
+
+        private void writeAttributes(SanitizerPolicy.TagRule rule) {
+            Set<String> written = attributes.size() > 2 ? new HashSet<>() : null;
+            for (int i = 0; i < attributes.size(); i += 2) {
+                String name = attributes.get(i);
+                String value = attributes.get(i + 1);
+                // 같은 속성이 여러 번 오면 처음 것만 (DOM 과 동일)
+                if (written != null && !written.add(name)) {
+                    continue;
+                }
+                if (!policy.isAllowedAttribute(rule, name)) {
+                    continue;
+                }
+                if ("style".equals(name)) {
+                    value = cleanStyle(value);
+                    if (value.isEmpty()) {
+                        continue;
+                    }
+                } else {
+                    SanitizerPolicy.ValueRule valueRule = policy.attribute(name);
+                    if (valueRule == null || !valueRule.allows(value)) {
+                        continue;
+                    }
+                }
+                out.append(' ').append(name).append("=\"");
+                escape(value, true);
+                out.append('"');
+            }
+        }
+
+        // 허용된 CSS 속성만 "속성: 값;" 형태로 다시 씀
+        private String cleanStyle(String style) {
+            StringBuilder clean = new StringBuilder();
+            for (String declaration : style.split(";")) {
+                int colon = declaration.indexOf(':');
+                if (colon < 0) {
+                    continue;
+                }
+                String property = declaration.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+                String value = declaration.substring(colon + 1).trim().replaceAll("\\s*,\\s*", ",");
+                SanitizerPolicy.ValueRule rule = policy.cssProperty(property);
+                if (rule == null || value.isEmpty() || !rule.allows(value)) {
+                    continue;
+                }
+                if (!clean.isEmpty()) {
+                    clean.append(' ');
+                }
+                clean.append(property).append(": ").append(value).append(';');
+            }
+            return clean.toString();
+        }
+
+        private void close(OpenTag tag) {
+            if (!tag.hasChild && !policy.isAllowedEmpty(tag.name)) {
+                // 자식이 없으면 여는 태그도 출력하지 않은 것으로
+                out.setLength(tag.start);
+                return;
+            }
+            out.append("</").append(tag.name).append('>');
+        }
+
+        // 닫는 태그 전까지를 텍스트로 (엔티티 해석 없이)
+        private void rawText(String name) {
+            int end = findEndTag(name, pos);
+            int textEnd = end < 0 ? in.length() : end;
+            if (textEnd > pos) {
+                markChild();
+                escape(in, pos, textEnd);
+            }
+            pos = textEnd;
+        }
+
+        // remove 대상: 같은 이름의 중첩을 세면서 짝이 되는 닫는 태그 뒤로 이동
+        private void skipElement(String name) {
+            int depth = 1;
+            int i = pos;
+            while (true) {
+                int lt = in.indexOf('<', i);
+                if (lt < 0) {
+                    pos = in.length();
+                    return;
+                }
+                if (charAt(lt + 1) == '/' && isTagName(lt + 2, name)) {
+                    if (--depth == 0) {
+                        int end = in.indexOf('>', lt);
+                        pos = end < 0 ? in.length() : end + 1;
+                        return;
+                    }
+                } else if (isTagName(lt + 1, name)) {
+                    depth++;
+                }
+                i = lt + 1;
+            }
+        }
+
+        private int findEndTag(String name, int from) {
+            int i = from;
+            while (true) {
+                int lt = in.indexOf("</", i);
+                if (lt < 0) {
+                    return -1;
+                }
+                if (isTagName(lt + 2, name)) {
+                    return lt;
+                }
+                i = lt + 2;
+            }
+        }
+
+        private boolean isTagName(int i, String name) {
+            return in.regionMatches(true, i, name, 0, name.length())
+                    && nameEnd(i + name.length()) == i + name.length();
+        }
+
+        private void text(int from, int to) {
+            if (from >= to) {
+                return;
+            }
+            markChild();
+            int i = from;
+            while (i < to) {
+                char c = in.charAt(i);
+                if (c == '&') {
+                    int end = entityEnd(i, to);
+                    String decoded = end < 0 ? null : entity(i + 1, end);
+                    if (decoded != null) {
+                        escape(decoded, false);
+                        i = end + 1;
+                        continue;
+                    }
+                }
+                escape(c, false);
+                i++;
+            }
+        }
+
+        // 속성값 엔티티 해석 (값 검사는 해석된 값으로)
+        private String decode(int from, int to) {
+            int amp = in.indexOf('&', from);
+            if (amp < 0 || amp >= to) {
+                return in.substring(from, to);
+            }
+            StringBuilder value = new StringBuilder(to - from);
+            int i = from;
+            while (i < to) {
+                char c = in.charAt(i);
+                if (c == '&') {
+                    int end = entityEnd(i, to);
+                    String decoded = end < 0 ? null : entity(i + 1, end);
+                    if (decoded != null) {
+                        value.append(decoded);
+                        i = end + 1;
+                        continue;
+                    }
+                }
+                value.append(c);
+                i++;
+            }
+            return value.toString();
+        }
+
+        // '&' 뒤 가까운 ';' 위치 (엔티티 이름은 짧으므로 멀리 찾지 않음)
+        private int entityEnd(int amp, int to) {
+            int limit = Math.min(to, amp + 12);
+            for (int i = amp + 1; i < limit; i++) {
+                char c = in.charAt(i);
+                if (c == ';') {
+                    return i;
+                }
+                if (!Character.isLetterOrDigit(c) && c != '#') {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private String entity(int from, int to) {
+            if (from >= to) {
+                return null;
+            }
+            if (in.charAt(from) != '#') {
+                return ENTITIES.get(in.substring(from, to));
+            }
+            try {
+                boolean hex = from + 1 < to && (in.charAt(from + 1) == 'x' || in.charAt(from + 1) == 'X');
+                int codePoint = hex
+                        ? Integer.parseInt(in.substring(from + 2, to), 16)
+                        : Integer.parseInt(in.substring(from + 1, to));
+                return Character.isValidCodePoint(codePoint) && codePoint != 0
+                        ? new String(Character.toChars(codePoint))
+                        : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private void escape(String value, boolean attribute) {
+            for (int i = 0; i < value.length(); i++) {
+                escape(value.charAt(i), attribute);
+            }
+        }
+
+        private void escape(String value, int from, int to) {
+            for (int i = from; i < to; i++) {
+                escape(value.charAt(i), false);
+            }
+        }
+
+        private void escape(char c, boolean attribute) {
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append(attribute ? ">" : "&gt;");
+                case '"' -> out.append(attribute ? "&quot;" : "\"");
+                default -> out.append(c);
+            }
+        }
+
+        private void markChild() {
+            OpenTag parent = open.peek();
+            if (parent != null) {
+                parent.hasChild = true;
+            }
+        }
+
+        private boolean isOpen(String name) {
+            for (OpenTag tag : open) {
+                if (tag.name.equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int nameEnd(int i) {
+            while (i < in.length()) {
+                char c = in.charAt(i);
+                if (!Character.isLetterOrDigit(c) && c != '-' && c != ':' && c != '_') {
+                    break;
+                }
+                i++;
+            }
+            return i;
+        }
+
+        private boolean isAttributeNameEnd(char c) {
+            return Character.isWhitespace(c) || c == '=' || c == '>' || c == '/';
+        }
+
+        private char charAt(int i) {
+            return i < in.length() ? in.charAt(i) : '\0';
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.untitles.global.util;
+
+import java.util.List;
+
+/**
+ * 두 본문 사이의 변경분 (이력 저장용)
+ * - 형식: "=n" 원문 n자 유지, "-n" 원문 n자 삭제, "+n:텍스트" n자 삽입 을 이어 붙인 문자열
+ * - 토큰 단위 Myers diff 로 계산하고, 변경이 너무 크면 null (전체 스냅샷으로 저장)
+ */
+public final class TextDelta {
+
+    private static final int MAX_EDITS = 5000;
+
+    private TextDelta() {
+    }
+
+    public static String diff(String from, String to) {
+        List<String> a = HtmlTokenizer.tokenize(from);
+        List<String> b = HtmlTokenizer.tokenize(to);
+        int[] match = MyersDiff.match(a, b, MAX_EDITS);
+        if (match == null) {
+            return null;
+        }
+
+        StringBuilder delta = new StringBuilder();
+        int keep = 0;
+        int delete = 0;
+        StringBuilder insert = new StringBuilder();
+        int j = 0;
+        for (int i = 0; i <= a.size(); i++) {
+            int target = i < a.size() ? match[i] : b.size();
+            if (i < a.size() && target < 0) {
+                delete += a.get(i).length();
+                continue;
+            }
+            while (j < target) {
+                insert.append(b.get(j++));
+            }
+            if (delete > 0 || !insert.isEmpty()) {
+                appendKeep(delta, keep);
+                keep = 0;
+                if (delete > 0) {
+                    delta.append('-').append(delete);
+                    delete = 0;
+                }
+                if (!insert.isEmpty()) {
+                    delta.append('+').append(insert.length()).append(':').append(insert);
+                    insert.setLength(0);
+                }
+            }
+            if (i < a.size()) {
+                keep += a.get(i).length();
+                j++;
+            }
+        }
+        appendKeep(delta, keep);
+        return delta.toString();
+    }
+
+    public static String apply(String base, String delta) {
+        StringBuilder out = new StringBuilder(base.length());
+        int pos = 0;
+        int i = 0;
+        while (i < delta.length()) {
+            char op = delta.charAt(i++);
+            int start = i;
+            while (i < delta.length() && Character.isDigit(delta.charAt(i))) {
+                i++;
+            }
+            int n = Integer.parseInt(delta.substring(start, i));
+            switch (op) {
+                case '=' -> {
+                    out.append(base, pos, pos + n);
+                    pos += n;
+                }
+                case '-' -> pos += n;
+                case '+' -> {
+                    i++; // ':'
+                    out.append(delta, i, i + n);
+                    i += n;
+                }
+                default -> throw new IllegalStateException("잘못된 변경분 형식: " + op);
+            }
+        }
+        if (pos != base.length()) {
+            throw new IllegalStateException("변경분과 원문 길이가 맞지 않습니다.");
+        }
+        return out.toString();
+    }
+
+    private static void appendKeep(StringBuilder delta, int keep) {
+        if (keep > 0) {
+            delta.append('=').append(keep);
+        }
+    }
+}
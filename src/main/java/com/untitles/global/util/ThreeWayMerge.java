@@ -0,0 +1,78 @@
+package com.untitles.global.util;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 3-way 병합 (diff3)
+ * - base 에서 ours / theirs 로의 변경이 겹치지 않으면 둘 다 반영, 겹치면 empty
+ * - 태그/단어/공백 단위 토큰으로 비교 (HtmlTokenizer)
+ */
+public final class ThreeWayMerge {
+
+    // 편집 거리가 이보다 크면 병합하지 않고 충돌로 처리
+    private static final int MAX_EDITS = 2000;
+
+    private ThreeWayMerge() {
+    }
+
+    public static Optional<String> merge(String base, String ours, String theirs) {
+        if (Objects.equals(ours, theirs) || Objects.equals(base, theirs)) {
+            return Optional.ofNullable(ours);
+        }
+        if (Objects.equals(base, ours)) {
+            return Optional.ofNullable(theirs);
+        }
+        if (base == null || ours == null || theirs == null) {
+            return Optional.empty();
+        }
+
+        List<String> o = HtmlTokenizer.tokenize(base);
+        List<String> a = HtmlTokenizer.tokenize(ours);
+        List<String> b = HtmlTokenizer.tokenize(theirs);
+        int[] matchA = MyersDiff.match(o, a, MAX_EDITS);
+        int[] matchB = MyersDiff.match(o, b, MAX_EDITS);
+        if (matchA == null || matchB == null) {
+            return Optional.empty();
+        }
+
+        StringBuilder merged = new StringBuilder(Math.max(ours.length(), theirs.length()));
+        int i = 0;
+        int ia = 0;
+        int ib = 0;
+        while (i < o.size() || ia < a.size() || ib < b.size()) {
+            // 세 쪽 모두 같은 구간은 그대로
+            if (i < o.size() && matchA[i] == ia && matchB[i] == ib) {
+                merged.append(o.get(i));
+                i++;
+                ia++;
+                ib++;
+                continue;
+            }
+
+            // 다음으로 세 쪽이 다시 만나는 지점까지가 변경 구간
+            int next = i;
+            while (next < o.size() && (matchA[next] < 0 || matchB[next] < 0)) {
+                next++;
+            }
+            int endA = next < o.size() ? matchA[next] : a.size();
+            int endB = next < o.size() ? matchB[next] : b.size();
+
+            List<String> chunkO = o.subList(i, next);
+            List<String> chunkA = a.subList(ia, endA);
+            List<String> chunkB = b.subList(ib, endB);
+            if (chunkA.equals(chunkO) || chunkA.equals(chunkB)) {
+                chunkB.forEach(merged::append);
+            } else if (chunkB.equals(chunkO)) {
+                chunkA.forEach(merged::append);
+            } else {
+                return Optional.empty();
+            }
+            i = next;
+            ia = endA;
+            ib = endB;
+        }
+        return Optional.of(merged.toString());
+    }
+}
@@ -0,0 +1,140 @@
+package com.untitles.global.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 버전(ETag, revision)과 함께 값을 저장하는 캐시 - 만료 시점 몰림(stampede) 방지
+ * - single-flight: 노드 안에서 같은 키/버전을 동시에 다시 만들면 한 요청만 만들고 나머지는 그 결과를 기다림
+ * - 조기 갱신(XFetch): TTL 이 가까울수록, 만드는 데 오래 걸린 값일수록 높은 확률로 한 요청이 미리 TTL 을 연장
+ *   버전이 같으면 내용도 같으므로 다시 만들지 않고 다시 저장만 함, 그동안 다른 요청은 기다리지 않고 기존 값 사용
+ */
+@Slf4j
+public class VersionedCache {
+
+    // 다시 만드는 시간이 아주 짧아도 TTL 직전 이 정도 구간에서는 조기 갱신 기회를 줌
+    private static final long MIN_LOAD_MILLIS = 1000;
+
+    private final Cache cache;
+    private final long ttlMillis;
+    private final double beta;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    public VersionedCache(Cache cache, Duration ttl, double beta) {
+        this.cache = cache;
+        this.ttlMillis = ttl.toMillis();
+        this.beta = beta;
+    }
+
+    /**
+     * 버전이 같은 캐시 값, 없으면 loader 로 만들어 저장 (같은 키/버전 동시 요청은 한 번만 생성)
+     */
+    public <T> T get(Object key, String version, Class<T> type, Supplier<T> loader) {
+        Entry entry = read(key);
+        if (entry != null && version.equals(entry.getVersion()) && type.isInstance(entry.getValue())) {
+            refreshEarly(key, entry);
+            return type.cast(entry.getValue());
+        }
+        return type.cast(loadOnce(key + "@" + version, () -> {
+            long start = System.currentTimeMillis();
+            T value = loader.get();
+            long now = System.currentTimeMillis();
+            cache.put(key, new Entry(version, value, now, now - start));
+            return value;
+        }));
+    }
+
+    /**
+     * 버전과 관계없이 저장된 값 (패치용)
+     */
+    public Entry peek(Object key) {
+        return read(key);
+    }
+
+    public void put(Object key, String version, Object value, long loadMillis) {
+        cache.put(key, new Entry(version, value, System.currentTimeMillis(), loadMillis));
+    }
+
+    public void evict(Object key) {
+        cache.evict(key);
+    }
+
+    // ────────────────────────────────────────────────
+    // Private helpers
+    // ────────────────────────────────────────────────
+
+    // 형식이 다른 값(배포 전 캐시 등)은 없는 것으로 처리
+    private Entry read(Object key) {
+        try {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            return wrapper != null && wrapper.get() instanceof Entry entry ? entry : null;
+        } catch (RuntimeException e) {
+            log.debug("캐시 값 읽기 실패 key={}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void refreshEarly(Object key, Entry entry) {
+        long now = System.currentTimeMillis();
+        double gap = Math.max(entry.getLoadMillis(), MIN_LOAD_MILLIS) * beta
+                * -Math.log(1 - ThreadLocalRandom.current().nextDouble());
+        if (now + gap < entry.getCachedAt() + ttlMillis || !refreshing.add(key)) {
+            return;
+        }
+        try {
+            cache.put(key, new Entry(entry.getVersion(), entry.getValue(), now, entry.getLoadMillis()));
+        } catch (RuntimeException e) {
+            log.debug("캐시 조기 갱신 실패 key={}: {}", key, e.getMessage());
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    private Object loadOnce(String flightKey, Supplier<Object> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = loading.putIfAbsent(flightKey, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            Object value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(flightKey, mine);
+        }
+    }
+
+    /* 캐시 값 - 버전, 본문, 저장 시각, 만드는 데 걸린 시간 */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String version;
+        private Object value;
+        private long cachedAt;
+        private long loadMillis;
+    }
+}
@@ -0,0 +1,20 @@
+-- 폴더 조상 경로(materialized path) 컬럼 추가
+-- ddl-auto: update 는 컬럼만 추가하고 인덱스/기존 행 채우기는 하지 않으므로 배포 전에 수동 실행
+ALTER TABLE folder ADD COLUMN path VARCHAR(700) NULL;
+CREATE INDEX idx_folder_path ON folder (path);
+
+-- 기존 폴더 경로 채우기 (루트부터 재귀)
+UPDATE folder f
+JOIN (
+    WITH RECURSIVE tree (folder_id, path) AS (
+        SELECT folder_id, CAST(CONCAT('/', folder_id, '/') AS CHAR(700))
+        FROM folder
+        WHERE parent_id IS NULL
+        UNION ALL
+        SELECT c.folder_id, CONCAT(t.path, c.folder_id, '/')
+        FROM folder c
+        JOIN tree t ON c.parent_id = t.folder_id
+    )
+    SELECT folder_id, path FROM tree
+) x ON x.folder_id = f.folder_id
+SET f.path = x.path;
@@ -0,0 +1,7 @@
+-- 워크스페이스 트리 revision (트리 캐시 패치/검증용)
+-- 행이 없으면 revision 0 으로 취급하므로 백필 불필요
+CREATE TABLE workspace_revision (
+    workspace_id  BIGINT NOT NULL,
+    tree_revision BIGINT NOT NULL,
+    PRIMARY KEY (workspace_id)
+);
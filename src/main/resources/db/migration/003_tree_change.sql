@@ -0,0 +1,16 @@
+-- 트리 변경 로그 (GET .../folders/changes?since= 증분 동기화)
+-- 워크스페이스별 최근 500 revision 만 보관, 이전 기록이 없으면 클라이언트는 전체 재조회
+CREATE TABLE tree_change (
+    change_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    workspace_id    BIGINT       NOT NULL,
+    revision        BIGINT       NOT NULL,
+    node_type       VARCHAR(10)  NOT NULL,
+    change_type     VARCHAR(10)  NOT NULL,
+    node_id         BIGINT       NOT NULL,
+    parent_id       BIGINT       NULL,
+    name            VARCHAR(200) NULL,
+    node_created_at DATETIME(6)  NULL,
+    node_updated_at DATETIME(6)  NULL,
+    PRIMARY KEY (change_id)
+);
+CREATE INDEX idx_tree_change_workspace_revision ON tree_change (workspace_id, revision);
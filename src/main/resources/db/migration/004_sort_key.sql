@@ -0,0 +1,15 @@
+-- 폴더/게시글 형제 간 정렬 키 (FractionalIndex)
+-- 문자열 비교 순서 = 정렬 순서가 되도록 ascii_bin (대소문자/악센트 무시 정렬 금지)
+ALTER TABLE folder ADD COLUMN sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NULL;
+ALTER TABLE post ADD COLUMN sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NULL;
+ALTER TABLE tree_change ADD COLUMN sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NULL;
+
+-- 기존 행은 id 순서 그대로 (고정 길이 36진수, '0' 으로 끝나지 않도록 'i' 를 붙임)
+UPDATE folder SET sort_key = CONCAT('a', LPAD(LOWER(CONV(folder_id, 10, 36)), 8, '0'), 'i');
+UPDATE post SET sort_key = CONCAT('a', LPAD(LOWER(CONV(post_id, 10, 36)), 8, '0'), 'i');
+
+ALTER TABLE folder MODIFY sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+ALTER TABLE post MODIFY sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+CREATE INDEX idx_folder_parent_sort ON folder (parent_id, sort_key);
+CREATE INDEX idx_post_folder_sort ON post (folder_id, sort_key);
@@ -0,0 +1,13 @@
+-- 게시글 본문을 별도 테이블로 분리 (post 행 수정 시 MEDIUMTEXT 를 다시 쓰지 않도록)
+-- post 삭제 시 본문도 함께 삭제 (JPQL 일괄 삭제 경로 포함)
+CREATE TABLE post_content (
+    post_id BIGINT     NOT NULL,
+    content MEDIUMTEXT NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_content_post FOREIGN KEY (post_id) REFERENCES post (post_id) ON DELETE CASCADE
+);
+
+INSERT INTO post_content (post_id, content)
+SELECT post_id, content FROM post;
+
+ALTER TABLE post DROP COLUMN content;
@@ -0,0 +1,4 @@
+-- 본문을 형식 헤더가 붙은 바이트로 저장 (ContentCodec)
+-- 기존 행은 RAW(0x00) 헤더만 붙이고, 다음 수정 때 애플리케이션이 압축해서 다시 저장
+ALTER TABLE post_content MODIFY content MEDIUMBLOB NOT NULL;
+UPDATE post_content SET content = CONCAT(0x00, content);
@@ -0,0 +1,17 @@
+-- 게시글 제목/본문 이력 (오래된 version 수정의 3-way 병합 base)
+-- 게시글별 최근 version 일부만 보관, post 삭제 시 함께 삭제
+CREATE TABLE post_revision (
+    revision_id BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id     BIGINT       NOT NULL,
+    version     BIGINT       NOT NULL,
+    title       VARCHAR(200) NOT NULL,
+    content     MEDIUMBLOB   NOT NULL,
+    PRIMARY KEY (revision_id),
+    CONSTRAINT uk_post_revision_post_version UNIQUE (post_id, version),
+    CONSTRAINT fk_post_revision_post FOREIGN KEY (post_id) REFERENCES post (post_id) ON DELETE CASCADE
+);
+
+-- 기존 게시글은 현재 version 을 첫 이력으로
+INSERT INTO post_revision (post_id, version, title, content)
+SELECT p.post_id, p.version, p.title, c.content
+FROM post p JOIN post_content c ON c.post_id = p.post_id;
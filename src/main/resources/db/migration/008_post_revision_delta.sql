@@ -0,0 +1,12 @@
+-- 게시글 이력을 스냅샷 + 변경분으로 저장 (되돌리기/감사용으로 보관 범위 확대)
+-- 기존 이력은 모두 전체 본문이므로 SNAPSHOT
+ALTER TABLE post_revision
+    ADD COLUMN type         VARCHAR(10) NOT NULL DEFAULT 'SNAPSHOT',
+    ADD COLUMN base_version BIGINT      NULL,
+    ADD COLUMN chain_length INT         NOT NULL DEFAULT 0,
+    ADD COLUMN editor_id    BIGINT      NULL,
+    ADD COLUMN created_at   DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- 제목/본문이 마지막으로 바뀐 version (기존 게시글은 현재 version 의 이력이 있으므로 그대로)
+ALTER TABLE post ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
+UPDATE post SET content_version = version;
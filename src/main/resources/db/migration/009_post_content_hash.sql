@@ -0,0 +1,3 @@
+-- 본문 SHA-256 (같은 본문 재전송 시 sanitize/쓰기 생략)
+-- 기존 행은 압축된 본문이라 SQL 로 계산할 수 없음 → NULL 로 두고 다음 저장 시 채움
+ALTER TABLE post_content ADD COLUMN content_hash BINARY(32) NULL;
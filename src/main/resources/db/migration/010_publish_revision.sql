@@ -0,0 +1,3 @@
+-- 공개 설정/워크스페이스 정보 revision (공개 페이지 ETag, 캐시 키용)
+-- 행이 없으면 0 으로 취급
+ALTER TABLE workspace_revision ADD COLUMN publish_revision BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,24 @@
+-- 공개 게시글 인덱스 (워크스페이스별 공개 게시글 id 집합)
+-- 공개 설정/트리 구조가 바뀔 때 다시 계산, 공개 조회는 이 테이블 조회로만 판단
+CREATE TABLE public_post (
+    post_id      BIGINT NOT NULL,
+    workspace_id BIGINT NOT NULL,
+    PRIMARY KEY (post_id),
+    INDEX idx_public_post_workspace (workspace_id),
+    CONSTRAINT fk_public_post_post FOREIGN KEY (post_id) REFERENCES post (post_id) ON DELETE CASCADE
+);
+
+-- 공개 주소가 있는 워크스페이스의 현재 공개 게시글 채우기 (PublicPostIndexService 와 같은 규칙)
+INSERT INTO public_post (post_id, workspace_id)
+SELECT p.post_id, p.workspace_id
+FROM post p
+JOIN workspace w ON w.workspace_id = p.workspace_id
+LEFT JOIN folder pf ON pf.folder_id = p.folder_id
+WHERE w.public_slug IS NOT NULL
+  AND CASE
+        WHEN w.publish_all = 1 THEN p.is_excluded = 0
+        WHEN pf.folder_id IS NULL THEN p.is_public = 1
+        WHEN EXISTS (SELECT 1 FROM folder a
+                     WHERE a.publish_all = 1 AND pf.path LIKE CONCAT(a.path, '%')) THEN p.is_excluded = 0
+        ELSE p.is_public = 1
+      END;
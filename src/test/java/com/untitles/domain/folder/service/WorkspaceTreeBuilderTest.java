@@ -0,0 +1,61 @@
+package com.untitles.domain.folder.service;
+
+import com.untitles.domain.folder.dto.query.FolderTreeRow;
+import com.untitles.domain.folder.dto.response.FolderResponseDTO;
+import com.untitles.domain.folder.dto.response.WorkspaceTreeResponseDTO;
+import com.untitles.domain.folder.repository.FolderRepository;
+import com.untitles.domain.post.dto.query.PostTreeRow;
+import com.untitles.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkspaceTreeBuilderTest {
+
+    @Mock
+    private FolderRepository folderRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private WorkspaceTreeBuilder workspaceTreeBuilder;
+
+    @Test
+    @DisplayName("평면 조회 결과로 다단계 트리 조립")
+    void build() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(folderRepository.findTreeRowsByWorkspaceId(1L)).thenReturn(List.of(
+                new FolderTreeRow(10L, null, "루트", "i", now, now),
+                new FolderTreeRow(11L, 10L, "하위", "i", now, now),
+                new FolderTreeRow(12L, 11L, "하위의 하위", "i", now, now)
+        ));
+        when(postRepository.findTreeRowsByWorkspaceId(1L)).thenReturn(List.of(
+                new PostTreeRow(100L, null, "루트 게시글", "i", now, now),
+                new PostTreeRow(101L, 12L, "깊은 게시글", "i", now, now)
+        ));
+
+        // when
+        WorkspaceTreeResponseDTO tree = workspaceTreeBuilder.build(1L);
+
+        // then
+        assertThat(tree.getFolders()).hasSize(1);
+        assertThat(tree.getRootPosts()).extracting("postId").containsExactly(100L);
+
+        FolderResponseDTO deepest = tree.getFolders().get(0).getChildren().get(0).getChildren().get(0);
+        assertThat(deepest.getFolderId()).isEqualTo(12L);
+        assertThat(deepest.getParentId()).isEqualTo(11L);
+        assertThat(deepest.getPosts()).extracting("postId").containsExactly(101L);
+    }
+}
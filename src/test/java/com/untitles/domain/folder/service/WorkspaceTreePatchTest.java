@@ -0,0 +1,79 @@
+package com.untitles.domain.folder.service;
+
+import com.untitles.domain.folder.dto.response.FolderResponseDTO;
+import com.untitles.domain.folder.dto.response.WorkspaceTreeResponseDTO;
+import com.untitles.domain.folder.entity.TreeChangeType;
+import com.untitles.domain.folder.entity.TreeNodeType;
+import com.untitles.domain.folder.event.TreeNodeChange;
+import com.untitles.domain.post.dto.response.PostSimpleDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkspaceTreePatchTest {
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("생성/이동 변경을 캐시 트리에 반영")
+    void applyAll() {
+        // given
+        WorkspaceTreeResponseDTO tree = tree();
+
+        // when
+        boolean applied = WorkspaceTreePatch.applyAll(tree, List.of(
+                change(TreeNodeType.FOLDER, TreeChangeType.CREATED, 12L, 10L, "새 폴더"),
+                change(TreeNodeType.POST, TreeChangeType.MOVED, 100L, 12L, "게시글")
+        ));
+
+        // then
+        assertThat(applied).isTrue();
+        assertThat(tree.getRootPosts()).isEmpty();
+        FolderResponseDTO created = tree.getFolders().get(0).getChildren().get(0);
+        assertThat(created.getFolderId()).isEqualTo(12L);
+        assertThat(created.getPosts()).extracting("postId").containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("자기 하위로 이동하는 변경은 반영하지 않음")
+    void applyAll_cycle() {
+        // given
+        WorkspaceTreeResponseDTO tree = tree();
+        WorkspaceTreePatch.applyAll(tree, List.of(
+                change(TreeNodeType.FOLDER, TreeChangeType.CREATED, 11L, 10L, "하위")));
+
+        // when
+        boolean applied = WorkspaceTreePatch.applyAll(tree, List.of(
+                change(TreeNodeType.FOLDER, TreeChangeType.MOVED, 10L, 11L, "루트")));
+
+        // then
+        assertThat(applied).isFalse();
+    }
+
+    private WorkspaceTreeResponseDTO tree() {
+        FolderResponseDTO root = FolderResponseDTO.builder()
+                .folderId(10L)
+                .name("루트")
+                .createdAt(now)
+                .updatedAt(now)
+                .children(new ArrayList<>())
+                .posts(new ArrayList<>())
+                .build();
+        PostSimpleDTO post = PostSimpleDTO.builder()
+                .postId(100L)
+                .title("게시글")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        return WorkspaceTreeResponseDTO.of(new ArrayList<>(List.of(root)), new ArrayList<>(List.of(post)));
+    }
+
+    private TreeNodeChange change(TreeNodeType nodeType, TreeChangeType changeType, Long nodeId, Long parentId, String name) {
+        return new TreeNodeChange(nodeType, changeType, nodeId, parentId, name, "i", now, now);
+    }
+}
@@ -0,0 +1,53 @@
+package com.untitles.domain.folder.service;
+
+import com.untitles.domain.folder.dto.response.TreeChangesResponseDTO;
+import com.untitles.domain.folder.repository.TreeChangeRepository;
+import com.untitles.domain.workspace.repository.WorkspaceRevisionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkspaceTreeRevisionServiceTest {
+
+    @Mock
+    private WorkspaceRevisionRepository workspaceRevisionRepository;
+
+    @Mock
+    private TreeChangeRepository treeChangeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private WorkspaceTreeRevisionService workspaceTreeRevisionService;
+
+    @Test
+    @DisplayName("변경 로그가 since 이후부터 잘려 있으면 전체 재조회 안내")
+    void getChangesSince_truncated() {
+        // given
+        when(workspaceRevisionRepository.findTreeRevision(1L)).thenReturn(Optional.of(900L));
+        when(treeChangeRepository.findOldestRevision(1L)).thenReturn(401L);
+
+        // when
+        TreeChangesResponseDTO response = workspaceTreeRevisionService.getChangesSince(1L, 100L);
+
+        // then
+        assertThat(response.isFullResync()).isTrue();
+        assertThat(response.getRevision()).isEqualTo(900L);
+        verify(treeChangeRepository, never())
+                .findByWorkspaceIdAndRevisionBetweenOrderByRevisionAscChangeIdAsc(anyLong(), anyLong(), anyLong());
+    }
+}
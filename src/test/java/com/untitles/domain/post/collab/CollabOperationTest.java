@@ -0,0 +1,48 @@
+package com.untitles.domain.post.collab;
+
+import com.untitles.domain.post.service.PostContentPatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollabOperationTest {
+
+    @Test
+    @DisplayName("동시 연산을 서로 변환해 적용하면 같은 본문으로 수렴")
+    void transform_converges() {
+        // given
+        String doc = "<p>hello world</p>";
+        CollabOperation a = CollabOperation.fromJson(List.of(9, "brave ", 9));     // world 앞에 삽입
+        CollabOperation b = CollabOperation.fromJson(List.of(3, -6, 9));           // hello 삭제
+
+        // when
+        CollabOperation[] transformed = CollabOperation.transform(a, b);
+        String ab = apply(apply(doc, a), transformed[1]);
+        String ba = apply(apply(doc, b), transformed[0]);
+
+        // then
+        assertThat(ab).isEqualTo(ba).isEqualTo("<p>brave world</p>");
+    }
+
+    @Test
+    @DisplayName("두 본문 차이로 만든 연산을 적용하면 대상 본문이 됨")
+    void diff() {
+        // given
+        String from = "<p>hello world</p>";
+        String to = "<p>hello <b>brave</b> world</p>";
+
+        // when
+        CollabOperation operation = CollabOperation.diff(from, to);
+
+        // then
+        assertThat(operation.getBaseLength()).isEqualTo(from.length());
+        assertThat(apply(from, operation)).isEqualTo(to);
+    }
+
+    private String apply(String doc, CollabOperation operation) {
+        return PostContentPatch.apply(doc, operation.toTextOperations()).content();
+    }
+}
@@ -0,0 +1,57 @@
+package com.untitles.domain.post.service;
+
+import com.untitles.domain.post.dto.request.PostContentPatchRequestDTO.TextOperation;
+import com.untitles.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostContentPatchTest {
+
+    private static final String CONTENT = "<p>안녕 <a href=\"/x\">링크</a></p>";
+
+    @Test
+    @DisplayName("태그 밖 텍스트만 바꾸면 재검사 없이 적용")
+    void apply_textOnly() {
+        // when
+        PostContentPatch.Result result = PostContentPatch.apply(CONTENT, List.of(
+                op(3, 2, "반가워요"),
+                op(7, 0, "!")));
+
+        // then
+        assertThat(result.content()).isEqualTo("<p>반가워요! <a href=\"/x\">링크</a></p>");
+        assertThat(result.textOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("태그 안을 수정하거나 태그를 넣으면 재검사 대상")
+    void apply_markup() {
+        // when
+        PostContentPatch.Result insideTag = PostContentPatch.apply(CONTENT, List.of(op(8, 0, " onclick=x")));
+        PostContentPatch.Result newTag = PostContentPatch.apply(CONTENT, List.of(op(3, 0, "<img>")));
+
+        // then
+        assertThat(insideTag.textOnly()).isFalse();
+        assertThat(newTag.textOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("본문 범위를 벗어난 연산은 거절")
+    void apply_outOfRange() {
+        assertThatThrownBy(() -> PostContentPatch.apply(CONTENT, List.of(op(CONTENT.length(), 1, ""))))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> PostContentPatch.apply(CONTENT, List.of(op(CONTENT.length() + 1, 0, "x"))))
+                .isInstanceOf(BusinessException.class);
+        // position + deleteCount 가 int 범위를 넘는 경우
+        assertThatThrownBy(() -> PostContentPatch.apply(CONTENT, List.of(op(5, Integer.MAX_VALUE, ""))))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private TextOperation op(int position, int deleteCount, String insert) {
+        return TextOperation.builder().position(position).deleteCount(deleteCount).insert(insert).build();
+    }
+}
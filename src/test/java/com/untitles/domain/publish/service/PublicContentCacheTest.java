@@ -0,0 +1,61 @@
+package com.untitles.domain.publish.service;
+
+import com.untitles.domain.publish.dto.response.PublicWorkspaceResponse.PublicPostDetail;
+import com.untitles.domain.publish.event.PublicContentChangedEvent;
+import com.untitles.domain.workspace.repository.WorkspaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PublicContentCacheTest {
+
+    private final WorkspaceRepository workspaceRepository = mock(WorkspaceRepository.class);
+    private PublicContentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PublicContentCache(new ConcurrentMapCacheManager(), workspaceRepository, Duration.ofMinutes(10), 1.0);
+    }
+
+    @Test
+    @DisplayName("저장할 때의 ETag 와 다르면 캐시를 사용하지 않음")
+    void getPost_staleETag() {
+        // given
+        PublicPostDetail v1 = PublicPostDetail.builder().postId(7L).title("v1").build();
+        PublicPostDetail v2 = PublicPostDetail.builder().postId(7L).title("v2").build();
+        cache.getPost("docs", 7L, "pub-post-7-1", () -> v1);
+
+        // when & then
+        assertThat(cache.getPost("docs", 7L, "pub-post-7-1", () -> v2)).isSameAs(v1);
+        assertThat(cache.getPost("docs", 7L, "pub-post-7-2", () -> v2)).isSameAs(v2);
+    }
+
+    @Test
+    @DisplayName("공개 설정 변경은 해당 slug 의 바뀐 게시글만 evict")
+    void onPublicContentChanged_evictsOnlyChangedPosts() {
+        // given
+        when(workspaceRepository.findPublicSlugByWorkspaceId(1L)).thenReturn(Optional.of("docs"));
+        PublicPostDetail cached = PublicPostDetail.builder().postId(7L).build();
+        PublicPostDetail rebuilt = PublicPostDetail.builder().postId(7L).build();
+        cache.getPost("docs", 7L, "e7", () -> cached);
+        cache.getPost("docs", 8L, "e8", () -> cached);
+        cache.getPost("other", 7L, "o7", () -> cached);
+
+        // when
+        cache.onPublicContentChanged(new PublicContentChangedEvent(1L, List.of(7L)));
+
+        // then
+        assertThat(cache.getPost("docs", 7L, "e7", () -> rebuilt)).isSameAs(rebuilt);
+        assertThat(cache.getPost("docs", 8L, "e8", () -> rebuilt)).isSameAs(cached);
+        assertThat(cache.getPost("other", 7L, "o7", () -> rebuilt)).isSameAs(cached);
+    }
+}
@@ -0,0 +1,23 @@
+package com.untitles.domain.publish.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicSnapshotServiceTest {
+
+    @Test
+    @DisplayName("gzip 을 q > 0 으로 허용할 때만 스냅샷 전송")
+    void acceptsGzip() {
+        assertThat(PublicSnapshotService.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PublicSnapshotService.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(PublicSnapshotService.acceptsGzip("*")).isTrue();
+
+        assertThat(PublicSnapshotService.acceptsGzip(null)).isFalse();
+        assertThat(PublicSnapshotService.acceptsGzip("identity")).isFalse();
+        assertThat(PublicSnapshotService.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PublicSnapshotService.acceptsGzip("gzip;q=0, *;q=1")).isFalse();
+        assertThat(PublicSnapshotService.acceptsGzip("*;q=0")).isFalse();
+    }
+}
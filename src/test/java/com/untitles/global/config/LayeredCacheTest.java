@@ -0,0 +1,47 @@
+package com.untitles.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LayeredCacheTest {
+
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("workspaceTree");
+    private final List<Object> published = new ArrayList<>();
+    private final LayeredCache cache = new LayeredCache("workspaceTree",
+            Caffeine.newBuilder().maximumSize(100).build(),
+            remote,
+            (cacheName, key) -> published.add(key));
+
+    @Test
+    @DisplayName("변경은 L2 에 반영하고 다른 노드에 키를 전파")
+    void put_writesRemoteAndPublishes() {
+        // when
+        cache.put(1L, "tree-1");
+
+        // then
+        assertThat(remote.get(1L).get()).isEqualTo("tree-1");
+        assertThat(published).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 통지를 받으면 L1 을 비우고 L2 값을 다시 읽음")
+    void invalidateLocal_readsRemoteAgain() {
+        // given
+        cache.put(1L, "tree-1");
+        remote.put(1L, "tree-2");  // 다른 노드가 L2 를 갱신
+        assertThat(cache.get(1L, String.class)).isEqualTo("tree-1");
+
+        // when
+        cache.invalidateLocal(1L);
+
+        // then
+        assertThat(cache.get(1L, String.class)).isEqualTo("tree-2");
+    }
+}
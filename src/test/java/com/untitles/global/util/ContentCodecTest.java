@@ -0,0 +1,40 @@
+package com.untitles.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodecTest {
+
+    @Test
+    @DisplayName("긴 HTML 본문은 압축 저장 후 그대로 복원")
+    void encode_compressesLargeContent() {
+        // given
+        String content = "<p>안녕하세요 <strong>본문</strong></p>".repeat(200);
+
+        // when
+        byte[] stored = ContentCodec.encode(content);
+
+        // then
+        assertThat(stored[0]).isEqualTo(ContentCodec.DEFLATE);
+        assertThat(stored.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 3);
+        assertThat(ContentCodec.decode(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("짧은 본문과 마이그레이션된 기존 행은 RAW 로 읽기")
+    void decode_raw() {
+        // given
+        byte[] legacy = ("\0" + "<p>짧은 글</p>").getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] stored = ContentCodec.encode("<p>짧은 글</p>");
+
+        // then
+        assertThat(stored).isEqualTo(legacy);
+        assertThat(ContentCodec.decode(legacy)).isEqualTo("<p>짧은 글</p>");
+    }
+}
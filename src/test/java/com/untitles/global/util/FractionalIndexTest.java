@@ -0,0 +1,88 @@
+package com.untitles.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FractionalIndexTest {
+
+    @Test
+    @DisplayName("임의 위치에 반복 삽입해도 키 순서가 삽입 순서와 일치")
+    void between_keepsOrder() {
+        // given
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            int index = random.nextInt(keys.size() + 1);
+            String before = index > 0 ? keys.get(index - 1) : null;
+            String after = index < keys.size() ? keys.get(index) : null;
+            keys.add(index, FractionalIndex.between(before, after));
+        }
+
+        // then
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("맨 뒤/맨 앞에 계속 추가해도 키 길이가 거의 늘지 않음")
+    void between_appendAndPrepend() {
+        // given
+        String last = null;
+        String first = null;
+
+        // when
+        for (int i = 0; i < 10000; i++) {
+            String next = FractionalIndex.between(last, null);
+            assertThat(last == null || next.compareTo(last) > 0).isTrue();
+            last = next;
+
+            String previous = FractionalIndex.between(null, first);
+            assertThat(first == null || previous.compareTo(first) < 0).isTrue();
+            first = previous;
+        }
+
+        // then
+        assertThat(last.length()).isLessThanOrEqualTo(4);
+        assertThat(first.length()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("마이그레이션으로 채운 기존 키 앞뒤/사이에도 삽입")
+    void between_migratedKeys() {
+        // given (004_sort_key.sql: 'a' + 8자리 36진수 + 'i')
+        String a = "a0000001fi";
+        String b = "a0000001gi";
+
+        // when & then
+        assertThat(FractionalIndex.between(a, null)).isGreaterThan(b);
+        assertThat(FractionalIndex.between(null, a)).isLessThan(a);
+        assertThat(FractionalIndex.between(a, b)).isGreaterThan(a).isLessThan(b);
+    }
+
+    @Test
+    @DisplayName("같은 자리에 계속 끼워 넣어도 앞뒤 키 사이에 위치")
+    void between_sameGap() {
+        // given
+        String first = FractionalIndex.between(null, null);
+        String last = FractionalIndex.between(first, null);
+
+        // when
+        String key = last;
+        for (int i = 0; i < 100; i++) {
+            key = FractionalIndex.between(first, key);
+        }
+
+        // then
+        assertThat(key).isGreaterThan(first).isLessThan(last);
+        assertThatThrownBy(() -> FractionalIndex.between(last, first))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.untitles.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlSanitizerEngineTest {
+
+    private static final Pattern STYLE = Pattern.compile("style=\"([^\"]*)\"");
+
+    private final HtmlSanitizerEngine antiSamy = new AntiSamySanitizerEngine();
+    private final HtmlSanitizerEngine streaming = new StreamingHtmlSanitizerEngine();
+
+    // 에디터 출력 + 공격 패턴 공용 코퍼스
+    static Stream<String> corpus() {
+        return Stream.of(
+                "<p>안녕하세요 <strong>굵게</strong> <em>기울임</em> <u>밑줄</u> <s>취소</s></p>",
+                "<h1>제목</h1><h2 id=\"sub-title\">소제목</h2><blockquote><p>인용</p></blockquote>",
+                "<pre><code class=\"language-java\">int a = 1 &lt; 2;</code></pre>",
+                "<ul data-type=\"taskList\"><li data-checked=\"true\"><label><input type=\"checkbox\" checked></label><div><p>할 일</p></div></li></ul>",
+                "<ol><li><p>하나</p></li><li><p>둘</p></li></ol><hr>",
+                "<table><tbody><tr><th colspan=\"2\">머리</th></tr><tr><td rowspan=\"1\">칸</td><td>칸</td></tr></tbody></table>",
+                "<p style=\"text-align: center; color: #ff0000\">가운데</p><span style=\"background-color: yellow; position: fixed\">형광</span>",
+                "<a href=\"https://untitles.net/p/1\" target=\"_blank\" rel=\"noopener noreferrer\">링크</a>",
+                "<a href=\"javascript:alert(1)\">x</a><a href=\"/docs#top\" target=\"_top\">y</a>",
+                "<img src=\"https://cdn.untitles.net/a.png\" alt=\"image 1\" onerror=\"alert(1)\"><br>",
+                "<p onclick=\"alert(1)\" class=\"note\">핸들러</p>",
+                "<script>alert(1)</script><p>본문</p>",
+                "<iframe src=\"https://evil.example\"></iframe><p>뒤</p>",
+                "<p></p><p><span></span></p><p>빈 태그</p>",
+                "<div><p>닫히지 않은 <em>태그</div>",
+                "<!-- 주석 --><p>a &amp; b &lt; c</p>",
+                "텍스트만 있는 본문"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    @DisplayName("스트리밍 엔진은 같은 정책으로 AntiSamy 와 같은 결과")
+    void streaming_matchesAntiSamy(String html) {
+        // when
+        String expected = antiSamy.sanitize(html);
+        String actual = streaming.sanitize(html);
+
+        // then
+        assertThat(normalize(actual)).isEqualTo(normalize(expected));
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 태그/속성/URL 제거")
+    void streaming_removesUnsafeMarkup() {
+        // when
+        String clean = streaming.sanitize(
+                "<p onclick=\"x()\"><a href=\"javascript:alert(1)\">a</a><script>b</script></p>");
+
+        // then
+        assertThat(clean).isEqualTo("<p><a>a</a>b</p>");
+    }
+
+    // 직렬화 차이만 맞춤 (빈 요소 표기, style 공백, 같은 문자의 다른 엔티티 표기)
+    private String normalize(String html) {
+        String result = html
+                .replaceAll("<(br|hr|img|input)([^>]*?)\\s*/?>", "<$1$2 />")
+                .replace("&nbsp;", "\u00A0")
+                .replace("&#160;", "\u00A0")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'");
+        Matcher matcher = STYLE.matcher(result);
+        StringBuilder sb = new StringBuilder();
+        while (matcher.find()) {
+            String style = matcher.group(1).replaceAll("\\s+", "").replaceAll(";$", "");
+            matcher.appendReplacement(sb, Matcher.quoteReplacement("style=\"" + style + "\""));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.untitles.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextDeltaTest {
+
+    @Test
+    @DisplayName("변경분을 원문에 적용하면 수정본이 복원됨")
+    void diff_apply() {
+        // given
+        String from = "<p>첫 문단 입니다</p>".repeat(50) + "<p>끝</p>";
+        String to = "<p>첫 문단 입니다</p>".repeat(50) + "<p>고친 끝 <b>강조</b></p>";
+
+        // when
+        String delta = TextDelta.diff(from, to);
+
+        // then
+        assertThat(delta.length()).isLessThan(to.length() / 10);
+        assertThat(TextDelta.apply(from, delta)).isEqualTo(to);
+    }
+}
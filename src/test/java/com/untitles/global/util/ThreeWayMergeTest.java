@@ -0,0 +1,41 @@
+package com.untitles.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThreeWayMergeTest {
+
+    private static final String BASE = "<p>첫 문단 입니다</p><p>둘째 문단 입니다</p>";
+
+    @Test
+    @DisplayName("서로 다른 문단을 고친 수정은 둘 다 반영")
+    void merge_disjoint() {
+        // given
+        String ours = "<p>첫 문단 고침</p><p>둘째 문단 입니다</p>";
+        String theirs = "<p>첫 문단 입니다</p><p>둘째 문단 입니다</p><p>추가</p>";
+
+        // when
+        Optional<String> merged = ThreeWayMerge.merge(BASE, ours, theirs);
+
+        // then
+        assertThat(merged).contains("<p>첫 문단 고침</p><p>둘째 문단 입니다</p><p>추가</p>");
+    }
+
+    @Test
+    @DisplayName("같은 위치를 다르게 고치면 충돌")
+    void merge_conflict() {
+        // given
+        String ours = "<p>첫 문단 A</p><p>둘째 문단 입니다</p>";
+        String theirs = "<p>첫 문단 B</p><p>둘째 문단 입니다</p>";
+
+        // when
+        Optional<String> merged = ThreeWayMerge.merge(BASE, ours, theirs);
+
+        // then
+        assertThat(merged).isEmpty();
+    }
+}
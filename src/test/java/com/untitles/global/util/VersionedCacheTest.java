@@ -0,0 +1,75 @@
+package com.untitles.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedCacheTest {
+
+    private final VersionedCache cache = new VersionedCache(new ConcurrentMapCache("test"), Duration.ofMinutes(10), 1.0);
+
+    @Test
+    @DisplayName("같은 키/버전을 동시에 요청하면 한 번만 만들고 나머지는 그 결과를 받음")
+    void get_singleFlight() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.get("ws", "3", String.class, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "tree-3";
+            })));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("tree-3");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("버전이 다르면 저장된 값을 쓰지 않고 다시 만듦")
+    void get_versionMismatch() {
+        // given
+        cache.get("ws", "3", String.class, () -> "tree-3");
+
+        // when
+        String tree = cache.get("ws", "4", String.class, () -> "tree-4");
+
+        // then
+        assertThat(tree).isEqualTo("tree-4");
+        assertThat(cache.peek("ws").getVersion()).isEqualTo("4");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}